@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.bench;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.json.EJsonArr;
+import io.github.artemget.entrys.json.EJsonInt;
+import io.github.artemget.entrys.json.EJsonObj;
+import io.github.artemget.entrys.json.EJsonPath;
+import io.github.artemget.entrys.json.EJsonStr;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of json entries.
+ *
+ * @since 0.5.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EJsonBench {
+    /**
+     * Json object.
+     */
+    private JsonObject json;
+
+    /**
+     * Builds json.
+     */
+    @Setup
+    public void setup() {
+        this.json = Json.createObjectBuilder()
+            .add("name", "entrys")
+            .add("port", 8080)
+            .add("inner", Json.createObjectBuilder().add("name", "inner"))
+            .add("items", Json.createArrayBuilder().add(1).add(2).add(3))
+            .build();
+    }
+
+    @Benchmark
+    public String strHit() throws EntryException {
+        return new EJsonStr(this.json, "name").value();
+    }
+
+    @Benchmark
+    public int intHit() throws EntryException {
+        return new EJsonInt(this.json, "port").intValue();
+    }
+
+    @Benchmark
+    public Optional<String> strMiss() {
+        return new EJsonStr(this.json, "absent").probe();
+    }
+
+    @Benchmark
+    public String nestedHit() throws EntryException {
+        return new EJsonStr(new EJsonObj(this.json, "inner"), "name").value();
+    }
+
+    @Benchmark
+    public String pathHit() throws EntryException {
+        return new EJsonStr(new EJsonPath(this.json, "inner.name")).value();
+    }
+
+    @Benchmark
+    public Optional<JsonObject> objMiss() {
+        return new EJsonObj(this.json, "absent").probe();
+    }
+
+    @Benchmark
+    public JsonArray arrHit() throws EntryException {
+        return new EJsonArr(this.json, "items").value();
+    }
+
+    @Benchmark
+    public Optional<JsonArray> arrMiss() {
+        return new EJsonArr(this.json, "absent").probe();
+    }
+}
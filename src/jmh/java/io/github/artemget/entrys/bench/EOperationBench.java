@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.bench;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.numeric.EInt;
+import io.github.artemget.entrys.operation.ESplit;
+import io.github.artemget.entrys.operation.EUnwrap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of operation and numeric entries.
+ *
+ * @since 0.5.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle NonStaticMethodCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EOperationBench {
+    /**
+     * Amount of items to split.
+     */
+    @Param({"10", "10000"})
+    public int items;
+
+    /**
+     * Joined items.
+     */
+    private String joined;
+
+    /**
+     * Joins items.
+     */
+    @Setup
+    public void setup() {
+        final StringBuilder text = new StringBuilder(4096);
+        for (int item = 0; item < this.items; ++item) {
+            if (item > 0) {
+                text.append(';');
+            }
+            text.append("item").append(item);
+        }
+        this.joined = text.toString();
+    }
+
+    @Benchmark
+    public List<String> split() throws EntryException {
+        return new ESplit(() -> this.joined).value();
+    }
+
+    @Benchmark
+    public String unwrap() throws EntryException {
+        return new EUnwrap("${ENV:default}", "${", "}").value();
+    }
+
+    @Benchmark
+    public int intHit() throws EntryException {
+        return new EInt(() -> "2147483647").intValue();
+    }
+
+    @Benchmark
+    public Optional<Integer> intMiss() {
+        return new EInt(() -> "abc").probe();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.bench;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.file.EVal;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link EVal} over small and large yaml.
+ *
+ * @since 0.5.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle NonStaticMethodCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EValBench {
+    /**
+     * Amount of mappings in yaml, each one holds ten keys.
+     * Was limited to 100 while eo-yaml built the index in quadratic time,
+     * the 1000 case measures the built-in parser used by default since then.
+     */
+    @Param({"1", "100", "1000"})
+    public int groups;
+
+    /**
+     * Yaml content.
+     */
+    private String yaml;
+
+    /**
+     * Yaml file.
+     */
+    private Path file;
+
+    /**
+     * Counter making content unique to measure parsing.
+     */
+    private long parsed;
+
+    /**
+     * Builds yaml content and file.
+     *
+     * @throws IOException If failed to write file
+     */
+    @Setup
+    public void setup() throws IOException {
+        final StringBuilder text = new StringBuilder(4096);
+        for (int group = 0; group < this.groups; ++group) {
+            text.append("group").append(group).append(":\n");
+            for (int key = 0; key < 10; ++key) {
+                text.append("  key").append(key).append(": value").append(key).append('\n');
+            }
+        }
+        text.append("env: ${ENTRYS_BENCH_ABSENT:default}\n");
+        this.yaml = text.toString();
+        this.file = Files.createTempFile("entrys-bench", ".yaml");
+        Files.writeString(this.file, this.yaml);
+    }
+
+    /**
+     * Deletes yaml file.
+     *
+     * @throws IOException If failed to delete file
+     */
+    @TearDown
+    public void delete() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    @Benchmark
+    public String hit() throws EntryException {
+        return new EVal("group0.key5", this.content()).value();
+    }
+
+    @Benchmark
+    public Optional<String> miss() {
+        return new EVal("group0.absent", this.content()).probe();
+    }
+
+    @Benchmark
+    public String missThrown() {
+        String message;
+        try {
+            message = new EVal("group0.absent", this.content()).value();
+        } catch (final EntryException exception) {
+            message = exception.getMessage();
+        }
+        return message;
+    }
+
+    @Benchmark
+    public String placeholder() throws EntryException {
+        return new EVal("env", this.content()).value();
+    }
+
+    @Benchmark
+    public String fileHit() throws EntryException {
+        return new EVal("group0.key5", this.file.toString()).value();
+    }
+
+    @Benchmark
+    public String parse() throws EntryException {
+        this.parsed += 1;
+        final String unique = String.format("%s#%d\n", this.yaml, this.parsed);
+        return new EVal("group0.key5", () -> unique).value();
+    }
+
+    /**
+     * Yaml content entry.
+     *
+     * @return Entry
+     */
+    private Entry<String> content() {
+        return () -> this.yaml;
+    }
+}
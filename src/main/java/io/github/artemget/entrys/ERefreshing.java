@@ -0,0 +1,278 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Refreshable entry. Serves cached origin's value and reloads it
+ * on a virtual thread once value becomes older than ttl minus
+ * refresh-ahead margin, so callers never wait for reload.
+ * Only the very first value is loaded synchronously.
+ * Failed reload keeps last good value with its original age,
+ * is retried in background after refresh-ahead margin
+ * and is reported by {@link #error()}.
+ *
+ * @param <T> Value type
+ * @since 0.5.0
+ */
+public final class ERefreshing<T> implements Entry<T> {
+    /**
+     * Origin entry.
+     */
+    private final Entry<T> origin;
+
+    /**
+     * Age of value after which it is expired.
+     */
+    private final long ttl;
+
+    /**
+     * Margin before ttl expiry to reload value at, also delay of retry.
+     */
+    private final long ahead;
+
+    /**
+     * Clock.
+     */
+    private final Clock clock;
+
+    /**
+     * Last loaded state.
+     */
+    private final AtomicReference<Loaded<T>> loaded;
+
+    /**
+     * Whether reload is in progress.
+     */
+    private final AtomicBoolean reloading;
+
+    /**
+     * Lock of the first load.
+     */
+    private final Object lock;
+
+    /**
+     * Ctor. Reloads value at 4/5 of ttl.
+     *
+     * @param origin Entry
+     * @param ttl Of value
+     */
+    public ERefreshing(final Entry<T> origin, final Duration ttl) {
+        this(origin, ttl, ttl.dividedBy(5), Clock.systemUTC());
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param origin Entry
+     * @param ttl Of value
+     * @param ahead Margin before ttl expiry to reload value at, positive and shorter than ttl
+     * @param clock To measure value's age
+     * @throws IllegalArgumentException If margin is not positive or not shorter than ttl
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ERefreshing(
+        final Entry<T> origin,
+        final Duration ttl,
+        final Duration ahead,
+        final Clock clock
+    ) {
+        this.origin = new ESafe<>(origin);
+        this.ttl = ttl.toMillis();
+        this.ahead = ERefreshing.margin(ttl.toMillis(), ahead.toMillis());
+        this.clock = clock;
+        this.loaded = new AtomicReference<>();
+        this.reloading = new AtomicBoolean();
+        this.lock = new Object();
+    }
+
+    @Override
+    public T value() throws EntryException {
+        Loaded<T> current = this.loaded.get();
+        if (current == null) {
+            current = this.first();
+        } else {
+            this.refresh(current);
+        }
+        return current.value;
+    }
+
+    /**
+     * Error of the last reload.
+     *
+     * @return Error or empty if last reload succeeded
+     */
+    public Optional<EntryException> error() {
+        final Loaded<T> current = this.loaded.get();
+        final Optional<EntryException> error;
+        if (current == null) {
+            error = Optional.empty();
+        } else {
+            error = Optional.ofNullable(current.error);
+        }
+        return error;
+    }
+
+    /**
+     * Loads the first value synchronously.
+     *
+     * @return Loaded value
+     * @throws EntryException If origin failed
+     */
+    private Loaded<T> first() throws EntryException {
+        synchronized (this.lock) {
+            Loaded<T> current = this.loaded.get();
+            if (current == null) {
+                final long now = this.clock.millis();
+                current = new Loaded<>(this.origin.value(), now, now, null);
+                this.loaded.set(current);
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Whether loaded value should be reloaded.
+     * Value is reloaded once it is older than ttl minus margin,
+     * failed reload is retried once margin passed since the attempt.
+     *
+     * @param current Loaded value
+     * @return True if reload is due
+     */
+    private boolean due(final Loaded<T> current) {
+        final long now = this.clock.millis();
+        final boolean due;
+        if (current.error == null) {
+            due = now - current.time >= this.ttl - this.ahead;
+        } else {
+            due = now - current.tried >= this.ahead;
+        }
+        return due;
+    }
+
+    /**
+     * Starts reload in background if it is due
+     * and no other reload is in progress.
+     *
+     * @param current Loaded value
+     */
+    private void refresh(final Loaded<T> current) {
+        if (this.due(current) && this.reloading.compareAndSet(false, true)) {
+            Thread.ofVirtual()
+                .name("entrys-refresh")
+                .start(() -> this.reload(current));
+        }
+    }
+
+    /**
+     * Reloads value in background.
+     *
+     * @param previous Loaded value
+     */
+    private void reload(final Loaded<T> previous) {
+        try {
+            final long now = this.clock.millis();
+            Loaded<T> next;
+            try {
+                next = new Loaded<>(this.origin.value(), now, now, null);
+            } catch (final EntryException exception) {
+                next = new Loaded<>(previous.value, previous.time, now, exception);
+            }
+            this.loaded.set(next);
+        } finally {
+            this.reloading.set(false);
+        }
+    }
+
+    /**
+     * Checks refresh-ahead margin.
+     *
+     * @param ttl Of value in millis
+     * @param ahead Margin in millis
+     * @return Margin
+     * @throws IllegalArgumentException If margin is not positive or not shorter than ttl
+     */
+    private static long margin(final long ttl, final long ahead) {
+        if (ahead <= 0 || ahead >= ttl) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Refresh margin %dms must be positive and shorter than ttl %dms",
+                    ahead,
+                    ttl
+                )
+            );
+        }
+        return ahead;
+    }
+
+    /**
+     * Loaded value.
+     *
+     * @param <T> Value type
+     * @since 0.5.0
+     */
+    private static final class Loaded<T> {
+        /**
+         * Value.
+         */
+        private final T value;
+
+        /**
+         * Time of load in millis.
+         */
+        private final long time;
+
+        /**
+         * Time of the last load attempt in millis.
+         */
+        private final long tried;
+
+        /**
+         * Error of load, null if load succeeded.
+         */
+        private final EntryException error;
+
+        /**
+         * Main ctor.
+         *
+         * @param value Loaded
+         * @param time Of load
+         * @param tried Time of the last load attempt
+         * @param error Of load
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Loaded(final T value, final long time, final long tried, final EntryException error) {
+            this.value = value;
+            this.time = time;
+            this.tried = tried;
+            this.error = error;
+        }
+    }
+}
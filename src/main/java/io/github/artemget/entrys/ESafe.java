@@ -24,6 +24,8 @@
 
 package io.github.artemget.entrys;
 
+import java.util.Optional;
+
 /**
  * Null safe entry. Throws if wrapped
  * scalar return null.
@@ -74,4 +76,16 @@ public class ESafe<T> implements Entry<T> {
         }
         return value;
     }
+
+    @SuppressWarnings({"PMD.AvoidCatchingNPE", "PMD.AvoidCatchingGenericException"})
+    @Override
+    public Optional<T> probe() {
+        Optional<T> probed;
+        try {
+            probed = this.origin.probe();
+        } catch (final NullPointerException exception) {
+            probed = Optional.empty();
+        }
+        return probed;
+    }
 }
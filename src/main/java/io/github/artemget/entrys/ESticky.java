@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Optional;
+
+/**
+ * Memoizing entry. Computes origin's value once and publishes it
+ * with release/acquire semantics, so reads after the first one
+ * take no locks. Only the very first computation is guarded
+ * by a lock, so origin is never read concurrently.
+ *
+ * @param <T> Value type
+ * @since 0.5.0
+ */
+public final class ESticky<T> implements Entry<T> {
+    /**
+     * Handle of cached field.
+     */
+    private static final VarHandle CACHED = ESticky.handle();
+
+    /**
+     * Origin entry.
+     */
+    private final Entry<T> origin;
+
+    /**
+     * Failures policy.
+     */
+    private final Failures failures;
+
+    /**
+     * Lock of the first computation.
+     */
+    private final Object lock;
+
+    /**
+     * Cached value or failure, accessed through {@link #CACHED}.
+     */
+    @SuppressWarnings("PMD.UnusedPrivateField")
+    private Object cached;
+
+    /**
+     * Ctor. Failures are not cached.
+     *
+     * @param origin Entry
+     */
+    public ESticky(final Entry<T> origin) {
+        this(origin, Failures.RETRY);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param origin Entry
+     * @param failures Policy
+     */
+    public ESticky(final Entry<T> origin, final Failures failures) {
+        this.origin = new ESafe<>(origin);
+        this.failures = failures;
+        this.lock = new Object();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T value() throws EntryException {
+        Object value = ESticky.CACHED.getAcquire(this);
+        if (value == null) {
+            value = this.computed();
+        }
+        if (value instanceof Failure) {
+            throw new EntryException(
+                "Sticky entry failed earlier",
+                ((Failure) value).cause
+            );
+        }
+        return (T) value;
+    }
+
+    @Override
+    public Optional<T> probe() {
+        Optional<T> probed;
+        try {
+            probed = Optional.of(this.value());
+        } catch (final EntryException exception) {
+            probed = Optional.empty();
+        }
+        return probed;
+    }
+
+    /**
+     * Computes origin's value once.
+     *
+     * @return Value or failure
+     * @throws EntryException If origin failed and failures are not cached
+     */
+    private Object computed() throws EntryException {
+        synchronized (this.lock) {
+            Object value = ESticky.CACHED.getAcquire(this);
+            if (value == null) {
+                try {
+                    value = this.origin.value();
+                } catch (final EntryException exception) {
+                    if (this.failures == Failures.RETRY) {
+                        throw exception;
+                    }
+                    value = new Failure(exception);
+                }
+                ESticky.CACHED.setRelease(this, value);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Finds handle of cached field.
+     *
+     * @return Handle
+     */
+    private static VarHandle handle() {
+        try {
+            return MethodHandles.lookup()
+                .findVarHandle(ESticky.class, "cached", Object.class);
+        } catch (final ReflectiveOperationException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Policy of caching origin's failures.
+     *
+     * @since 0.5.0
+     */
+    public enum Failures {
+        /**
+         * Failure is not cached, origin is read again on next call.
+         */
+        RETRY,
+
+        /**
+         * Failure is cached and rethrown on every call.
+         */
+        CACHE
+    }
+
+    /**
+     * Cached failure.
+     *
+     * @since 0.5.0
+     */
+    private static final class Failure {
+        /**
+         * Origin's exception.
+         */
+        private final EntryException cause;
+
+        /**
+         * Main ctor.
+         *
+         * @param cause Origin's exception
+         */
+        Failure(final EntryException cause) {
+            this.cause = cause;
+        }
+    }
+}
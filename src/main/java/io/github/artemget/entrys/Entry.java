@@ -24,6 +24,7 @@
 
 package io.github.artemget.entrys;
 
+import java.util.Optional;
 import org.cactoos.Scalar;
 
 /**
@@ -35,4 +36,21 @@ import org.cactoos.Scalar;
 public interface Entry<T> extends Scalar<T> {
     @Override
     T value() throws EntryException;
+
+    /**
+     * Probes entry without throwing.
+     * Sources should override it to report missing value
+     * without building an exception.
+     *
+     * @return Value or empty if entry is empty or failed
+     */
+    default Optional<T> probe() {
+        Optional<T> probed;
+        try {
+            probed = Optional.ofNullable(this.value());
+        } catch (final EntryException exception) {
+            probed = Optional.empty();
+        }
+        return probed;
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys;
+
+/**
+ * Immutable versioned snapshot of value, e.g. of config's content.
+ * Entries reading from the same generation see the same value,
+ * even if newer generation is published meanwhile.
+ *
+ * @param <T> Value type
+ * @since 0.5.0
+ */
+public final class Generation<T> implements Entry<T> {
+    /**
+     * Version, grows with every published generation.
+     */
+    private final long number;
+
+    /**
+     * Value.
+     */
+    private final T snapshot;
+
+    /**
+     * Main ctor.
+     *
+     * @param number Version
+     * @param snapshot Value
+     */
+    public Generation(final long number, final T snapshot) {
+        this.number = number;
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public T value() {
+        return this.snapshot;
+    }
+
+    /**
+     * Version of generation.
+     *
+     * @return Version
+     */
+    public long version() {
+        return this.number;
+    }
+
+    /**
+     * Next generation with new value.
+     *
+     * @param next Value
+     * @return Generation with next version
+     */
+    public Generation<T> next(final T next) {
+        return new Generation<>(this.number + 1, next);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Generation %d", this.number);
+    }
+}
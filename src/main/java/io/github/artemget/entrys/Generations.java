@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holder of the latest {@link Generation}.
+ * Readers pin current generation with a single volatile read and never
+ * wait, reloader publishes new generation with a single atomic swap.
+ * Value of holder is the value of current generation, so consecutive
+ * reads may see different generations. Read all related values from
+ * pinned generation to get them from the same version,
+ * e.g. url and user of database.
+ *
+ * @param <T> Value type
+ * @since 0.5.0
+ */
+public final class Generations<T> implements Entry<T> {
+    /**
+     * Current generation.
+     */
+    private final AtomicReference<Generation<T>> current;
+
+    /**
+     * Ctor with first generation.
+     *
+     * @param first Value of the first generation
+     */
+    public Generations(final T first) {
+        this(new Generation<>(1L, first));
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param first Generation
+     */
+    public Generations(final Generation<T> first) {
+        this.current = new AtomicReference<>(first);
+    }
+
+    @Override
+    public T value() throws EntryException {
+        return new ESafe<>(this.current.get()).value();
+    }
+
+    /**
+     * Pins current generation.
+     *
+     * @return Generation
+     */
+    public Generation<T> pinned() {
+        return this.current.get();
+    }
+
+    /**
+     * Publishes new generation.
+     *
+     * @param value Of new generation
+     * @return Published generation
+     */
+    public Generation<T> publish(final T value) {
+        return this.current.updateAndGet(previous -> previous.next(value));
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.bind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Source of binder entry of config section.
+ *
+ * @since 0.5.0
+ */
+final class Binder {
+    /**
+     * End of generated method.
+     */
+    private static final String END = "    }";
+
+    /**
+     * Package of bound type, empty for default package.
+     */
+    private final String pkg;
+
+    /**
+     * Simple name of binder.
+     */
+    private final String simple;
+
+    /**
+     * Qualified name of bound type.
+     */
+    private final String bound;
+
+    /**
+     * Whether bound type is a record, otherwise it is an interface.
+     */
+    private final boolean record;
+
+    /**
+     * Bound components.
+     */
+    private final List<Bound> fields;
+
+    /**
+     * Main ctor.
+     *
+     * @param pkg Package of bound type, empty for default package
+     * @param simple Simple name of binder
+     * @param bound Qualified name of bound type
+     * @param record Whether bound type is a record
+     * @param fields Bound components
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Binder(
+        final String pkg,
+        final String simple,
+        final String bound,
+        final boolean record,
+        final List<Bound> fields
+    ) {
+        this.pkg = pkg;
+        this.simple = simple;
+        this.bound = bound;
+        this.record = record;
+        this.fields = fields;
+    }
+
+    /**
+     * Qualified name of binder.
+     *
+     * @return Name
+     */
+    String name() {
+        final String name;
+        if (this.pkg.isEmpty()) {
+            name = this.simple;
+        } else {
+            name = String.join(".", this.pkg, this.simple);
+        }
+        return name;
+    }
+
+    /**
+     * Java source of binder.
+     *
+     * @return Source
+     */
+    String source() {
+        final List<String> lines = new ArrayList<>(64);
+        if (!this.pkg.isEmpty()) {
+            lines.add(String.format("package %s;%n", this.pkg));
+        }
+        lines.add("/**");
+        lines.add(String.format(" * Binder of {@link %s} generated by entrys.", this.bound));
+        lines.add(" */");
+        lines.add(
+            String.format(
+                "@javax.annotation.processing.Generated(\"%s\")",
+                EntrysProcessor.class.getName()
+            )
+        );
+        lines.add(
+            String.format(
+                "public final class %s implements io.github.artemget.entrys.Entry<%s> {",
+                this.simple, this.bound
+            )
+        );
+        lines.add("    private static final java.util.List<String> KEYS = java.util.List.of(");
+        lines.add(
+            this.fields.stream()
+                .map(field -> String.format("        %s", field.literal()))
+                .collect(Collectors.joining(String.format(",%n")))
+        );
+        lines.add("    );");
+        lines.add("    private final io.github.artemget.entrys.file.EVals values;");
+        lines.addAll(this.ctors());
+        lines.add("    @Override");
+        lines.add(
+            String.format(
+                "    public %s value() throws io.github.artemget.entrys.EntryException {",
+                this.bound
+            )
+        );
+        lines.add("        final java.util.Map<String, String> vals = this.values.value();");
+        lines.add(String.format("        return new %s(", this.created()));
+        lines.add(
+            this.fields.stream()
+                .map(field -> String.format("            %s", field.read("vals")))
+                .collect(Collectors.joining(String.format(",%n")))
+        );
+        lines.add("        );");
+        lines.add(Binder.END);
+        if (!this.record) {
+            lines.addAll(this.section());
+        }
+        lines.add("}");
+        return String.join(String.format("%n"), lines);
+    }
+
+    /**
+     * Constructors of binder.
+     *
+     * @return Lines of source
+     */
+    private List<String> ctors() {
+        final List<String> lines = new ArrayList<>(32);
+        lines.add(String.format("    public %s() {", this.simple));
+        lines.add("        this(\"src/main/resources/application.yaml\");");
+        lines.add(Binder.END);
+        lines.add(String.format("    public %s(final String path) {", this.simple));
+        lines.add("        this(new io.github.artemget.entrys.file.EFile(path));");
+        lines.add(Binder.END);
+        lines.add(
+            String.format(
+                "    public %s(final io.github.artemget.entrys.Entry<String> content) {",
+                this.simple
+            )
+        );
+        lines.add("        this(");
+        lines.add("            new io.github.artemget.entrys.file.EYamlIndex(content),");
+        lines.add("            io.github.artemget.entrys.system.EEnv::new");
+        lines.add("        );");
+        lines.add(Binder.END);
+        lines.add(String.format("    public %s(", this.simple));
+        lines.add("        final io.github.artemget.entrys.file.EYamlIndex index,");
+        lines.add("        final io.github.artemget.entrys.func.EFunc<");
+        lines.add("            String, io.github.artemget.entrys.Entry<String>> vars");
+        lines.add("    ) {");
+        lines.add(
+            String.format(
+                "        this.values = new %s(%s.KEYS, index, vars);",
+                "io.github.artemget.entrys.file.EVals",
+                this.simple
+            )
+        );
+        lines.add(Binder.END);
+        return lines;
+    }
+
+    /**
+     * Name of created class.
+     *
+     * @return Bound record or implementation of bound interface
+     */
+    private String created() {
+        final String created;
+        if (this.record) {
+            created = this.bound;
+        } else {
+            created = "Section";
+        }
+        return created;
+    }
+
+    /**
+     * Implementation of bound interface.
+     *
+     * @return Lines of source
+     */
+    private List<String> section() {
+        final List<String> lines = new ArrayList<>(32);
+        lines.add(
+            String.format("    private static final class Section implements %s {", this.bound)
+        );
+        for (final Bound field : this.fields) {
+            lines.add(String.format("        private final %s %s;", field.type(), field.name()));
+        }
+        lines.add("        Section(");
+        lines.add(
+            this.fields.stream()
+                .map(field -> String.format("            final %s %s", field.type(), field.name()))
+                .collect(Collectors.joining(String.format(",%n")))
+        );
+        lines.add("        ) {");
+        for (final Bound field : this.fields) {
+            lines.add(String.format("            this.%1$s = %1$s;", field.name()));
+        }
+        lines.add("        }");
+        for (final Bound field : this.fields) {
+            lines.add("        @Override");
+            lines.add(String.format("        public %s %s() {", field.type(), field.name()));
+            lines.add(String.format("            return this.%s;", field.name()));
+            lines.add("        }");
+        }
+        lines.add(Binder.END);
+        return lines;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.bind;
+
+import java.util.Map;
+
+/**
+ * Component of config section bound to key.
+ *
+ * @since 0.5.0
+ */
+final class Bound {
+    /**
+     * Expressions reading value of type from map of values by key.
+     */
+    private static final Map<String, String> READS = Map.ofEntries(
+        Map.entry("java.lang.String", "%s.get(%s)"),
+        Map.entry("int", Bound.parsed("numeric.EInt", "intValue")),
+        Map.entry("java.lang.Integer", Bound.parsed("numeric.EInt", "intValue")),
+        Map.entry("long", Bound.parsed("numeric.ELong", "longValue")),
+        Map.entry("java.lang.Long", Bound.parsed("numeric.ELong", "longValue")),
+        Map.entry("double", Bound.parsed("numeric.EDouble", "doubleValue")),
+        Map.entry("java.lang.Double", Bound.parsed("numeric.EDouble", "doubleValue")),
+        Map.entry("boolean", Bound.parsed("logic.EBool", "booleanValue")),
+        Map.entry("java.lang.Boolean", Bound.parsed("logic.EBool", "booleanValue")),
+        Map.entry("java.util.List<java.lang.String>", Bound.parsed("operation.ESplit", "value"))
+    );
+
+    /**
+     * Name of component.
+     */
+    private final String label;
+
+    /**
+     * Full key.
+     */
+    private final String path;
+
+    /**
+     * Type of component.
+     */
+    private final String kind;
+
+    /**
+     * Main ctor.
+     *
+     * @param label Name of component
+     * @param path Full key
+     * @param kind Type of component
+     */
+    Bound(final String label, final String path, final String kind) {
+        this.label = label;
+        this.path = path;
+        this.kind = kind;
+    }
+
+    /**
+     * Name of component.
+     *
+     * @return Name
+     */
+    String name() {
+        return this.label;
+    }
+
+    /**
+     * Full key.
+     *
+     * @return Key
+     */
+    String key() {
+        return this.path;
+    }
+
+    /**
+     * Type of component.
+     *
+     * @return Type
+     */
+    String type() {
+        return this.kind;
+    }
+
+    /**
+     * Whether type of component can be bound.
+     *
+     * @return True for strings, numbers, booleans and lists of strings
+     */
+    boolean supported() {
+        return Bound.READS.containsKey(this.kind);
+    }
+
+    /**
+     * Expression reading value of component.
+     *
+     * @param values Name of map of values by key
+     * @return Java expression
+     */
+    String read(final String values) {
+        return String.format(Bound.READS.get(this.kind), values, this.literal());
+    }
+
+    /**
+     * Key as java string literal.
+     *
+     * @return Literal
+     */
+    String literal() {
+        return String.format(
+            "\"%s\"", this.path.replace("\\", "\\\\").replace("\"", "\\\"")
+        );
+    }
+
+    /**
+     * Expression parsing value by entry.
+     *
+     * @param entry Entry class relative to root package
+     * @param method Returning parsed value
+     * @return Format of expression
+     */
+    private static String parsed(final String entry, final String method) {
+        return String.format(
+            "new io.github.artemget.entrys.%s(() -> %%s.get(%%s)).%s()", entry, method
+        );
+    }
+}
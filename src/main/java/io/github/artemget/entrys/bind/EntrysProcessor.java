@@ -0,0 +1,308 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.bind;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.file.EFile;
+import io.github.artemget.entrys.file.EYamlIndex;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor generating binders of {@link Entrys} sections.
+ * Binder of section resolves all components in one pass over yaml index
+ * without reflection. If option 'entrys.config' points to yaml file,
+ * keys of sections are checked against it at compile time.
+ *
+ * @since 0.5.0
+ */
+@SupportedAnnotationTypes("io.github.artemget.entrys.bind.Entrys")
+@SupportedOptions("entrys.config")
+@SuppressWarnings("PMD.TooManyMethods")
+public final class EntrysProcessor extends AbstractProcessor {
+    /**
+     * Keys of yaml config to check sections against, null if not checked.
+     */
+    private Set<String> keys;
+
+    /**
+     * Whether yaml config was already read.
+     */
+    private boolean read;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(
+        final Set<? extends TypeElement> annotations,
+        final RoundEnvironment round
+    ) {
+        for (final Element element : round.getElementsAnnotatedWith(Entrys.class)) {
+            if (element.getKind() == ElementKind.RECORD
+                || element.getKind() == ElementKind.INTERFACE) {
+                this.bind((TypeElement) element);
+            } else {
+                this.error(element, "Only records and interfaces are bound by @Entrys");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Generates binder of section.
+     *
+     * @param type Of section
+     */
+    private void bind(final TypeElement type) {
+        final String section = type.getAnnotation(Entrys.class).value();
+        final List<Bound> fields = new ArrayList<>(8);
+        boolean valid = true;
+        for (final Element accessor : EntrysProcessor.accessors(type)) {
+            final Bound field = new Bound(
+                accessor.getSimpleName().toString(),
+                EntrysProcessor.key(section, accessor),
+                EntrysProcessor.typed(accessor).toString()
+            );
+            valid = this.checked(accessor, field) && valid;
+            fields.add(field);
+        }
+        if (valid) {
+            this.write(
+                type,
+                new Binder(
+                    this.processingEnv.getElementUtils().getPackageOf(type)
+                        .getQualifiedName().toString(),
+                    String.format("%sEntry", EntrysProcessor.flat(type)),
+                    type.getQualifiedName().toString(),
+                    type.getKind() == ElementKind.RECORD,
+                    fields
+                )
+            );
+        }
+    }
+
+    /**
+     * Checks type and key of bound component.
+     *
+     * @param accessor Of component
+     * @param field Bound component
+     * @return True if component can be bound
+     */
+    private boolean checked(final Element accessor, final Bound field) {
+        boolean valid = true;
+        if (accessor.getKind() == ElementKind.METHOD
+            && !((ExecutableElement) accessor).getParameters().isEmpty()) {
+            this.error(accessor, "Bound method must have no parameters");
+            valid = false;
+        }
+        if (!field.supported()) {
+            this.error(
+                accessor,
+                String.format(
+                    "Type %s of '%s' is not supported, use String, int, long, double, boolean or List<String>",
+                    field.type(), field.name()
+                )
+            );
+            valid = false;
+        }
+        final Set<String> config = this.config();
+        if (config != null && !config.contains(field.key())) {
+            this.error(
+                accessor,
+                String.format(
+                    "Key '%s' is absent in %s",
+                    field.key(),
+                    this.processingEnv.getOptions().get("entrys.config")
+                )
+            );
+            valid = false;
+        }
+        return valid;
+    }
+
+    /**
+     * Writes source of binder.
+     *
+     * @param type Of section
+     * @param binder Of section
+     */
+    private void write(final TypeElement type, final Binder binder) {
+        try (Writer writer = this.processingEnv.getFiler()
+            .createSourceFile(binder.name(), type).openWriter()) {
+            writer.write(binder.source());
+        } catch (final IOException exception) {
+            this.error(
+                type,
+                String.format("Failed to write binder %s: %s", binder.name(), exception)
+            );
+        }
+    }
+
+    /**
+     * Keys of yaml config passed via 'entrys.config' option.
+     *
+     * @return Keys or null if keys are not checked
+     */
+    private Set<String> config() {
+        final String path = this.processingEnv.getOptions().get("entrys.config");
+        if (!this.read && path != null) {
+            this.read = true;
+            try {
+                final Map<String, String> index = new EYamlIndex(
+                    new EFile(path), EntrysProcessor.engine()
+                ).value();
+                this.keys = index.keySet();
+            } catch (final EntryException exception) {
+                this.processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.WARNING,
+                    String.format("Keys are not checked against %s: %s", path, exception)
+                );
+            }
+        }
+        return this.keys;
+    }
+
+    /**
+     * Reports error at element.
+     *
+     * @param element With error
+     * @param message Of error
+     */
+    private void error(final Element element, final String message) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * Engine to parse yaml config with.
+     * Eo-yaml is optional, so it is used only if found on processor path.
+     *
+     * @return Auto engine if eo-yaml is present, built-in engine otherwise
+     */
+    private static EYamlIndex.Engine engine() {
+        EYamlIndex.Engine engine;
+        try {
+            Class.forName("com.amihaiemil.eoyaml.Yaml");
+            engine = EYamlIndex.Engine.AUTO;
+        } catch (final ClassNotFoundException absent) {
+            engine = EYamlIndex.Engine.LITE;
+        }
+        return engine;
+    }
+
+    /**
+     * Accessors of section's components.
+     *
+     * @param type Of section
+     * @return Record components or abstract methods of interface
+     */
+    private static List<? extends Element> accessors(final TypeElement type) {
+        final List<? extends Element> accessors;
+        if (type.getKind() == ElementKind.RECORD) {
+            accessors = type.getRecordComponents();
+        } else {
+            accessors = ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+                .filter(method -> method.getModifiers().contains(Modifier.ABSTRACT))
+                .collect(Collectors.toList());
+        }
+        return accessors;
+    }
+
+    /**
+     * Type of component.
+     *
+     * @param accessor Of component
+     * @return Type
+     */
+    private static TypeMirror typed(final Element accessor) {
+        final TypeMirror typed;
+        if (accessor.getKind() == ElementKind.METHOD) {
+            typed = ((ExecutableElement) accessor).getReturnType();
+        } else {
+            typed = accessor.asType();
+        }
+        return typed;
+    }
+
+    /**
+     * Full key of component.
+     *
+     * @param section Of keys
+     * @param accessor Of component
+     * @return Key
+     */
+    private static String key(final String section, final Element accessor) {
+        final Key custom = accessor.getAnnotation(Key.class);
+        final String key;
+        if (custom == null) {
+            key = accessor.getSimpleName().toString();
+        } else {
+            key = custom.value();
+        }
+        final String full;
+        if (section.isEmpty()) {
+            full = key;
+        } else {
+            full = String.join(".", section, key);
+        }
+        return full;
+    }
+
+    /**
+     * Simple names of type and enclosing types joined together.
+     *
+     * @param type Bound type
+     * @return Flat name, e.g. 'ConfigDb' for 'Config.Db'
+     */
+    private static String flat(final TypeElement type) {
+        final StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing.getKind().isClass() || enclosing.getKind().isInterface()) {
+            name.insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.toString();
+    }
+}
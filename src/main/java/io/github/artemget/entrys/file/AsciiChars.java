@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.EntryExceptionUnchecked;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Chars view over bytes of ascii text. Reads bytes in place,
+ * so there is no copy of content on heap. Fault of reading mapped
+ * file truncated in place is thrown as
+ * {@link EntryExceptionUnchecked}, as chars can't throw checked exceptions.
+ *
+ * @since 0.5.0
+ */
+final class AsciiChars implements CharSequence {
+    /**
+     * Ascii bytes.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * Start of view.
+     */
+    private final int start;
+
+    /**
+     * Length of view.
+     */
+    private final int size;
+
+    /**
+     * View over all bytes.
+     *
+     * @param bytes Ascii bytes
+     */
+    AsciiChars(final ByteBuffer bytes) {
+        this(bytes, bytes.position(), bytes.remaining());
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param bytes Ascii bytes
+     * @param start Of view
+     * @param size Of view
+     */
+    AsciiChars(final ByteBuffer bytes, final int start, final int size) {
+        this.bytes = bytes;
+        this.start = start;
+        this.size = size;
+    }
+
+    @Override
+    public int length() {
+        return this.size;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(
+                String.format("Index %d is out of length %d", index, this.size)
+            );
+        }
+        try {
+            return (char) this.bytes.get(this.start + index);
+        } catch (final InternalError fault) {
+            throw new EntryExceptionUnchecked(Mapping.FAULT, fault);
+        }
+    }
+
+    @Override
+    public CharSequence subSequence(final int from, final int until) {
+        if (from < 0 || until > this.size || from > until) {
+            throw new IndexOutOfBoundsException(
+                String.format("Range [%d, %d) is out of length %d", from, until, this.size)
+            );
+        }
+        return new AsciiChars(this.bytes, this.start + from, until - from);
+    }
+
+    @Override
+    public String toString() {
+        final byte[] copy = new byte[this.size];
+        try {
+            this.bytes.get(this.start, copy);
+        } catch (final InternalError fault) {
+            throw new EntryExceptionUnchecked(Mapping.FAULT, fault);
+        }
+        return new String(copy, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.EntryException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary snapshot of flat yaml index.
+ * Layout is: magic, version, amount of keys, table of keys sorted
+ * by unsigned utf-8 bytes and arena of utf-8 keys and values.
+ * Each row of table holds offsets and lengths of key and value in arena.
+ * Keys are looked up by binary search over bytes, only found
+ * value is decoded. Each read row is checked against bounds of snapshot,
+ * so truncated or corrupt snapshot fails with {@link EntryException}.
+ *
+ * @since 0.5.0
+ */
+final class BinTable {
+    /**
+     * Magic number of snapshot, 'ENTR'.
+     */
+    static final int MAGIC = 0x454E5452;
+
+    /**
+     * Version of layout.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Size of header in bytes.
+     */
+    static final int HEADER = 12;
+
+    /**
+     * Size of row of table in bytes.
+     */
+    static final int ROW = 16;
+
+    /**
+     * Snapshot bytes.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * Main ctor.
+     *
+     * @param bytes Snapshot
+     */
+    BinTable(final ByteBuffer bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Looks value up by key.
+     *
+     * @param key Utf-8 bytes of key
+     * @return Value or null if absent
+     * @throws EntryException If snapshot is malformed
+     */
+    String value(final byte[] key) throws EntryException {
+        try {
+            return this.found(key);
+        } catch (final InternalError fault) {
+            throw new EntryException(Mapping.FAULT, fault);
+        }
+    }
+
+    /**
+     * Binary searches value by key.
+     *
+     * @param key Utf-8 bytes of key
+     * @return Value or null if absent
+     * @throws EntryException If snapshot is malformed
+     */
+    private String found(final byte[] key) throws EntryException {
+        final int size = this.size();
+        final int arena = BinTable.HEADER + size * BinTable.ROW;
+        int low = 0;
+        int high = size - 1;
+        String found = null;
+        while (found == null && low <= high) {
+            final int mid = low + high >>> 1;
+            final int row = BinTable.HEADER + mid * BinTable.ROW;
+            final int length = this.bytes.getInt(row + 4);
+            final int cmp = this.compared(
+                this.checked(arena, this.bytes.getInt(row), length), length, key
+            );
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                final int extent = this.bytes.getInt(row + 12);
+                final int start = this.checked(arena, this.bytes.getInt(row + 8), extent);
+                final byte[] value = new byte[extent];
+                this.bytes.get(start, value);
+                found = new String(value, StandardCharsets.UTF_8);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Amount of keys, checks header and bounds of table.
+     *
+     * @return Amount of keys
+     * @throws EntryException If snapshot is malformed
+     */
+    private int size() throws EntryException {
+        if (this.bytes.limit() < BinTable.HEADER
+            || this.bytes.getInt(0) != BinTable.MAGIC
+            || this.bytes.getInt(4) != BinTable.VERSION) {
+            throw new EntryException("Not an entrys binary snapshot or unsupported version");
+        }
+        final int size = this.bytes.getInt(8);
+        if (size < 0 || BinTable.HEADER + (long) size * BinTable.ROW > this.bytes.limit()) {
+            throw new EntryException(
+                String.format("Binary snapshot is corrupt: table of %d keys is out of bounds", size)
+            );
+        }
+        return size;
+    }
+
+    /**
+     * Checks that slice of arena is within snapshot.
+     *
+     * @param arena Start of arena
+     * @param offset Of slice in arena
+     * @param length Of slice
+     * @return Start of slice in snapshot
+     * @throws EntryException If slice is out of bounds
+     */
+    private int checked(final int arena, final int offset, final int length)
+        throws EntryException {
+        if (offset < 0 || length < 0
+            || (long) arena + offset + length > this.bytes.limit()) {
+            throw new EntryException(
+                String.format(
+                    "Binary snapshot is corrupt: slice at %d of %d bytes is out of bounds",
+                    offset, length
+                )
+            );
+        }
+        return arena + offset;
+    }
+
+    /**
+     * Compares key in arena with looked up key as unsigned bytes.
+     *
+     * @param offset Of key in snapshot
+     * @param length Of key in snapshot
+     * @param key Looked up
+     * @return Comparison result
+     */
+    private int compared(final int offset, final int length, final byte[] key) {
+        final int common = Math.min(length, key.length);
+        int cmp = 0;
+        for (int pos = 0; cmp == 0 && pos < common; ++pos) {
+            cmp = Byte.compareUnsigned(this.bytes.get(offset + pos), key[pos]);
+        }
+        if (cmp == 0) {
+            cmp = Integer.compare(length, key.length);
+        }
+        return cmp;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writer of binary snapshot of yaml, read by {@link EBinVal}.
+ * Placeholders are kept as is and are resolved at runtime.
+ * Run it at build time, e.g. with exec-maven-plugin:
+ * 'java io.github.artemget.entrys.file.BinWriter application.yaml application.bin'.
+ *
+ * @since 0.5.0
+ */
+public final class BinWriter {
+    /**
+     * Flat yaml index.
+     */
+    private final Entry<Map<String, String>> index;
+
+    /**
+     * From yaml file.
+     *
+     * @param yaml Path to yaml file
+     */
+    public BinWriter(final String yaml) {
+        this(new EYamlIndex(yaml));
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param index Flat yaml index
+     */
+    public BinWriter(final Entry<Map<String, String>> index) {
+        this.index = index;
+    }
+
+    /**
+     * Writes snapshot of yaml to file.
+     *
+     * @param args Path to yaml file and path to snapshot
+     * @throws EntryException If failed to read yaml or to write snapshot
+     */
+    public static void main(final String... args) throws EntryException {
+        if (args.length != 2) {
+            throw new EntryException("Usage: BinWriter <yaml> <snapshot>");
+        }
+        new BinWriter(args[0]).write(Path.of(args[1]));
+    }
+
+    /**
+     * Writes snapshot to file.
+     *
+     * @param target Snapshot file
+     * @throws EntryException If failed to read yaml or to write snapshot
+     */
+    public void write(final Path target) throws EntryException {
+        try {
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            Files.write(target, this.bytes());
+        } catch (final IOException exception) {
+            throw new EntryException(
+                String.format("Failed to write snapshot to '%s'", target),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Snapshot bytes.
+     *
+     * @return Bytes
+     * @throws EntryException If failed to read yaml
+     */
+    private byte[] bytes() throws EntryException {
+        final List<byte[][]> rows = this.index.value().entrySet().stream()
+            .map(
+                entry -> new byte[][] {
+                    entry.getKey().getBytes(StandardCharsets.UTF_8),
+                    entry.getValue().getBytes(StandardCharsets.UTF_8),
+                }
+            )
+            .sorted((first, second) -> Arrays.compareUnsigned(first[0], second[0]))
+            .toList();
+        int arena = 0;
+        for (final byte[][] row : rows) {
+            arena += row[0].length + row[1].length;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(
+            BinTable.HEADER + rows.size() * BinTable.ROW + arena
+        );
+        buffer.putInt(BinTable.MAGIC).putInt(BinTable.VERSION).putInt(rows.size());
+        int offset = 0;
+        for (final byte[][] row : rows) {
+            buffer.putInt(offset).putInt(row[0].length);
+            offset += row[0].length;
+            buffer.putInt(offset).putInt(row[1].length);
+            offset += row[1].length;
+        }
+        for (final byte[][] row : rows) {
+            buffer.put(row[0]).put(row[1]);
+        }
+        return buffer.array();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.ESafe;
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.func.EFunc;
+import io.github.artemget.entrys.system.EEnv;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Configuration property from binary snapshot written by {@link BinWriter}.
+ * Snapshot is memory mapped once per file change and keys are
+ * binary searched in place, so no yaml is parsed at startup.
+ * Placeholders are resolved like in {@link EVal}.
+ * Like {@link EChars}, mapping is shared, so snapshot must be replaced
+ * atomically by rename: rewriting it in place may let readers observe
+ * mixed content or fail with {@link EntryException} if it was truncated.
+ *
+ * @since 0.5.0
+ */
+public final class EBinVal extends ESafe<String> {
+    /**
+     * Ctor with placeholders resolved from environment.
+     *
+     * @param key Of entry
+     * @param path To snapshot
+     */
+    public EBinVal(final String key, final String path) {
+        this(key, path, EEnv::new);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param key Of entry
+     * @param path To snapshot
+     * @param vars Placeholder's values by names
+     */
+    public EBinVal(
+        final String key,
+        final String path,
+        final EFunc<String, Entry<String>> vars
+    ) {
+        this(key, key.getBytes(StandardCharsets.UTF_8), path, vars);
+    }
+
+    /**
+     * Ctor with encoded key.
+     *
+     * @param key Of entry
+     * @param bytes Utf-8 bytes of key
+     * @param path To snapshot
+     * @param vars Placeholder's values by names
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private EBinVal(
+        final String key,
+        final byte[] bytes,
+        final String path,
+        final EFunc<String, Entry<String>> vars
+    ) {
+        super(
+            new ETemplate(
+                new ESafe<>(
+                    () -> {
+                        try {
+                            return new BinTable(Mapping.mapped(Path.of(path)).bytes())
+                                .value(bytes);
+                        } catch (final IOException | SecurityException
+                            | IllegalArgumentException exception) {
+                            throw new EntryException(
+                                String.format("Failed to map snapshot for path: '%s'", path),
+                                exception
+                            );
+                        }
+                    },
+                    () -> String.format("Attribute for key '%s' is null", key)
+                ),
+                vars
+            ),
+            () -> String.format("Attribute for key '%s' is null", key)
+        );
+    }
+}
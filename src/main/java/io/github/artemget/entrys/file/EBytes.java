@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.ESafe;
+import io.github.artemget.entrys.EntryException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * Memory mapped file's content entry.
+ * File is mapped with {@link java.nio.channels.FileChannel#map},
+ * so content is not copied on heap. Mapping is shared between all
+ * entries of the same file and is mapped again only when file's
+ * modification time or size changes. Every value is a read only
+ * view with its own position. File must be replaced atomically by
+ * rename, not rewritten in place: in place rewrite changes bytes of
+ * previously returned views and in place truncation makes reading them fault.
+ *
+ * @since 0.5.0
+ */
+public final class EBytes extends ESafe<ByteBuffer> {
+    /**
+     * Main ctor.
+     *
+     * @param path To file
+     */
+    public EBytes(final String path) {
+        super(
+            () -> {
+                try {
+                    return Mapping.mapped(Path.of(path)).bytes();
+                } catch (final IOException | SecurityException
+                    | IllegalArgumentException exception) {
+                    throw new EntryException(
+                        String.format("Failed to map file for path: '%s'", path),
+                        exception
+                    );
+                }
+            },
+            () -> String.format("Empty file for path: '%s'", path)
+        );
+    }
+}
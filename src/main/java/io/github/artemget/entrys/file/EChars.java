@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.ESafe;
+import io.github.artemget.entrys.EntryException;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Memory mapped file's chars entry.
+ * Ascii content is returned as view over mapped bytes without
+ * copying it on heap, other content is decoded once per file change.
+ * Malformed content is reported like {@link EFile} does.
+ * File must be replaced atomically by rename, not rewritten in place:
+ * in place rewrite changes chars of previously returned views.
+ * Compose it with entries that read chars, e.g.
+ * {@link EYamlScan}, to scan large files in place.
+ *
+ * @since 0.5.0
+ */
+public final class EChars extends ESafe<CharSequence> {
+    /**
+     * From utf-8 file.
+     *
+     * @param path To file
+     */
+    public EChars(final String path) {
+        this(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param path To file
+     * @param charset Of file
+     */
+    public EChars(final String path, final Charset charset) {
+        super(
+            () -> {
+                try {
+                    return Mapping.mapped(Path.of(path)).chars(charset);
+                } catch (final IOException | SecurityException
+                    | IllegalArgumentException exception) {
+                    throw new EntryException(
+                        String.format("Failed to map file for path: '%s'", path),
+                        exception
+                    );
+                }
+            },
+            () -> String.format("Empty file for path: '%s'", path)
+        );
+    }
+}
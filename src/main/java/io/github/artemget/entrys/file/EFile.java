@@ -31,13 +31,31 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * File's content entry.
+ * Content is shared between all entries of the same file and
+ * is read again only when file's modification time or size changes.
+ * Contents of at most 64 files are kept, cache is cleared when
+ * one more file is read, so distinct paths don't leak memory.
  *
  * @since 0.4.0
  */
 public class EFile extends ESafe<String> {
+    /**
+     * Max amount of cached contents, cache is cleared when it is reached.
+     */
+    private static final int LIMIT = 64;
+
+    /**
+     * Contents of already read files.
+     */
+    private static final Map<Path, Stamped> CACHE = new ConcurrentHashMap<>();
+
     public EFile(final String path) {
         this(path, StandardCharsets.UTF_8);
     }
@@ -46,7 +64,7 @@ public class EFile extends ESafe<String> {
         super(
             () -> {
                 try {
-                    return Files.readString(Path.of(path), charset);
+                    return EFile.content(Path.of(path), charset);
                 } catch (final IOException | SecurityException exception) {
                     throw new EntryException(
                         String.format(
@@ -60,4 +78,94 @@ public class EFile extends ESafe<String> {
             () -> String.format("Empty file for path: '%s'", path)
         );
     }
+
+    /**
+     * Reads file content or returns cached one if file was not changed.
+     *
+     * @param path To file
+     * @param charset Of file
+     * @return Content
+     * @throws IOException If failed to read file
+     */
+    private static String content(final Path path, final Charset charset)
+        throws IOException {
+        final BasicFileAttributes attrs = Files.readAttributes(
+            path, BasicFileAttributes.class
+        );
+        Stamped stamped = EFile.CACHE.get(path);
+        if (stamped == null || !stamped.fresh(attrs, charset)) {
+            if (stamped == null && EFile.CACHE.size() >= EFile.LIMIT) {
+                EFile.CACHE.clear();
+            }
+            stamped = new Stamped(
+                attrs.lastModifiedTime(),
+                attrs.size(),
+                charset,
+                Files.readString(path, charset)
+            );
+            EFile.CACHE.put(path, stamped);
+        }
+        return stamped.content;
+    }
+
+    /**
+     * File content stamped with file's modification time and size.
+     *
+     * @since 0.5.0
+     */
+    private static final class Stamped {
+        /**
+         * Modification time.
+         */
+        private final FileTime modified;
+
+        /**
+         * File size.
+         */
+        private final long size;
+
+        /**
+         * Charset content was read with.
+         */
+        private final Charset charset;
+
+        /**
+         * File content.
+         */
+        private final String content;
+
+        /**
+         * Main ctor.
+         *
+         * @param modified Time
+         * @param size Of file
+         * @param charset Of content
+         * @param content Of file
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        Stamped(
+            final FileTime modified,
+            final long size,
+            final Charset charset,
+            final String content
+        ) {
+            this.modified = modified;
+            this.size = size;
+            this.charset = charset;
+            this.content = content;
+        }
+
+        /**
+         * Checks whether content is still actual.
+         *
+         * @param attrs Current file attributes
+         * @param current Requested charset
+         * @return True if file was not changed
+         */
+        boolean fresh(final BasicFileAttributes attrs, final Charset current) {
+            return this.size == attrs.size()
+                && this.modified.equals(attrs.lastModifiedTime())
+                && this.charset.equals(current);
+        }
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.func.EFunc;
+import io.github.artemget.entrys.operation.EParsed;
+import io.github.artemget.entrys.system.EEnv;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Entry with resolved ${NAME} and ${NAME:default} placeholders.
+ * Supports several placeholders and text around them,
+ * e.g. 'jdbc:${HOST:localhost}:${PORT:5432}/db'.
+ * By default placeholders are resolved from environment.
+ * Templates are compiled once and shared between entries.
+ *
+ * @since 0.5.0
+ */
+public final class ETemplate implements Entry<String> {
+    /**
+     * Compiled templates by text.
+     */
+    private static final Map<String, Template> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Max amount of compiled templates.
+     */
+    private static final int LIMIT = 4096;
+
+    /**
+     * Template text entry.
+     */
+    private final Entry<String> text;
+
+    /**
+     * Placeholder's values by names.
+     */
+    private final EFunc<String, Entry<String>> vars;
+
+    /**
+     * Ctor with placeholders resolved from environment.
+     *
+     * @param text Template
+     */
+    public ETemplate(final Entry<String> text) {
+        this(text, EEnv::new);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param text Template
+     * @param vars Placeholder's values by names
+     */
+    public ETemplate(final Entry<String> text, final EFunc<String, Entry<String>> vars) {
+        this.text = text;
+        this.vars = vars;
+    }
+
+    @Override
+    public String value() throws EntryException {
+        final String raw = this.text.value();
+        String value = raw;
+        if (raw != null && raw.contains("${")) {
+            final Template template = ETemplate.compiled(raw);
+            value = template.resolved(this.vars).orElseThrow(
+                () -> new EntryException(
+                    String.format(
+                        "Placeholders %s have no value and no default in '%s'",
+                        template.missing(this.vars),
+                        raw
+                    )
+                )
+            );
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<String> probe() {
+        Optional<String> value = this.text.probe();
+        if (value.isPresent() && value.get().contains("${")) {
+            try {
+                value = ETemplate.compiled(value.get()).resolved(this.vars);
+            } catch (final EntryException exception) {
+                value = Optional.empty();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Compiled template.
+     *
+     * @param raw Template text
+     * @return Template
+     * @throws EntryException Never, template compiles from any text
+     */
+    private static Template compiled(final String raw) throws EntryException {
+        return new EParsed<>(() -> raw, Template::new, ETemplate.CACHE, ETemplate.LIMIT)
+            .value();
+    }
+}
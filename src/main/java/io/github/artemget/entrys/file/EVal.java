@@ -24,26 +24,20 @@
 
 package io.github.artemget.entrys.file;
 
-import com.amihaiemil.eoyaml.Node;
-import com.amihaiemil.eoyaml.Yaml;
-import com.amihaiemil.eoyaml.YamlMapping;
-import com.amihaiemil.eoyaml.YamlNode;
 import io.github.artemget.entrys.ESafe;
 import io.github.artemget.entrys.Entry;
 import io.github.artemget.entrys.EntryException;
-import io.github.artemget.entrys.operation.EContains;
-import io.github.artemget.entrys.operation.EFork;
-import io.github.artemget.entrys.operation.ESplit;
-import io.github.artemget.entrys.operation.EUnwrap;
+import io.github.artemget.entrys.func.EFunc;
 import io.github.artemget.entrys.system.EEnv;
-import java.io.IOException;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * Configuration properties entry.
  * By default gets entries from "src/main/resources/application.yaml"
- * Supports all yaml types, default values and envs passed via ${ENV}.
+ * Supports all yaml types, default values and envs passed via ${ENV},
+ * several placeholders and text around them.
+ * Values are looked up in flat yaml index shared between
+ * entries with the same content.
  *
  * @since 0.4.0
  */
@@ -74,75 +68,86 @@ public final class EVal extends ESafe<String> {
      * @param key Of Entry
      * @param content Yaml content
      */
-    @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
     public EVal(final String key, final Entry<String> content) {
-        super(
-            () -> {
-                YamlMapping root;
-                try {
-                    root = Yaml.createYamlInput(content.value())
-                        .readYamlMapping();
-                } catch (final IOException | EntryException exception) {
-                    throw new EntryException(
-                        String.format("Failed to read yaml mapping for key: '%s'", key),
-                        exception
-                    );
-                }
-                String res = null;
-                final List<String> elements = new ESplit(() -> key, ".").value();
-                for (int element = 0; element < elements.size(); ++element) {
-                    if (element == elements.size() - 1) {
-                        final YamlNode value = root.value(elements.get(element));
-                        if (Node.SCALAR == value.type()) {
-                            res = EVal.ejected(value);
-                        } else if (Node.SEQUENCE == value.type()) {
-                            res = value.asSequence()
-                                .children().stream()
-                                .map(node -> node.asScalar().value())
-                                .collect(Collectors.joining(";"));
-                        }
-                    }
-                    root = root.yamlMapping(elements.get(element));
-                }
-                return res;
-            },
-            () -> String.format("Attribute for key '%s' is null", key)
-        );
+        this(key, content, EEnv::new);
     }
 
-    private static String ejected(final YamlNode node) throws EntryException {
-        final String scalar = node.asScalar().value();
-        return new EFork<>(
-            () -> scalar.startsWith("${") && scalar.endsWith("}"),
-            new EFork<>(
-                () -> new ESplit(() -> scalar, ":").value().size() >= 2,
-                new EFork<>(
-                    new EContains(new EEnv(() -> EVal.selectedEnv(scalar).trim())),
-                    new EEnv(() -> EVal.selectedEnv(scalar).trim()),
-                    () -> EVal.joined(scalar)
-                ),
-                new EEnv(new EUnwrap(scalar, "${", "}"))
-            ),
-            () -> scalar
-        ).value();
+    /**
+     * Ctor with custom placeholder's values source,
+     * e.g. {@link io.github.artemget.entrys.system.Snapshot#ENV}.
+     *
+     * @param key Of Entry
+     * @param content Yaml content
+     * @param vars Placeholder's values by names
+     */
+    public EVal(
+        final String key,
+        final Entry<String> content,
+        final EFunc<String, Entry<String>> vars
+    ) {
+        this(key, new EYamlIndex(content), vars);
+    }
+
+    /**
+     * Ctor from flat yaml index, e.g. read by chosen
+     * {@link EYamlIndex.Engine}.
+     *
+     * @param key Of Entry
+     * @param index Flat yaml index
+     */
+    public EVal(final String key, final EYamlIndex index) {
+        this(key, index, EEnv::new);
     }
 
-    private static String selectedEnv(final String scalar) throws EntryException {
-        return new ESplit(new EUnwrap(scalar, "${", "}"), ":")
-            .value().get(0);
+    /**
+     * Ctor from flat yaml index with custom placeholder's values source.
+     *
+     * @param key Of Entry
+     * @param index Flat yaml index
+     * @param vars Placeholder's values by names
+     */
+    public EVal(
+        final String key,
+        final EYamlIndex index,
+        final EFunc<String, Entry<String>> vars
+    ) {
+        this(new YamlKey(key), index, vars);
     }
 
-    private static String joined(final String scalar) throws EntryException {
-        final List<String> split = new ESplit(
-            new EUnwrap(scalar, "${", "}"), ":"
-        ).value();
-        final StringBuilder value = new StringBuilder();
-        for (int index = 1; index < split.size(); ++index) {
-            value.append(split.get(index));
-            if (index < split.size() - 1) {
-                value.append(':');
-            }
-        }
-        return value.toString();
+    /**
+     * Ctor from flat yaml index and compiled key.
+     *
+     * @param key Compiled key of entry
+     * @param index Flat yaml index
+     * @param vars Placeholder's values by names
+     */
+    private EVal(
+        final YamlKey key,
+        final EYamlIndex index,
+        final EFunc<String, Entry<String>> vars
+    ) {
+        super(
+            new ETemplate(
+                new ESafe<>(
+                    () -> {
+                        final Map<String, String> values;
+                        try {
+                            values = index.value();
+                        } catch (final EntryException exception) {
+                            throw new EntryException(
+                                String.format(
+                                    "Failed to read yaml mapping for key: '%s'", key
+                                ),
+                                exception
+                            );
+                        }
+                        return values.get(key.toString());
+                    },
+                    () -> String.format("Attribute for key '%s' is null", key)
+                ),
+                vars
+            ),
+            () -> String.format("Attribute for key '%s' is null", key)
+        );
     }
 }
@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.func.EFunc;
+import io.github.artemget.entrys.system.EEnv;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch of configuration properties.
+ * Reads and indexes yaml once and resolves all keys from the same index,
+ * so a batch costs one read and one parse instead of one per key.
+ * All missing keys and unresolved placeholders are reported
+ * together in one exception. Map values to typed record with
+ * {@link io.github.artemget.entrys.operation.EMapped}.
+ *
+ * @since 0.5.0
+ */
+public final class EVals implements Entry<Map<String, String>> {
+    /**
+     * Keys.
+     */
+    private final Collection<String> keys;
+
+    /**
+     * Flat yaml index.
+     */
+    private final EYamlIndex index;
+
+    /**
+     * Placeholder's values by names.
+     */
+    private final EFunc<String, Entry<String>> vars;
+
+    /**
+     * From yaml file at default dir.
+     *
+     * @param keys Of entries
+     */
+    public EVals(final Collection<String> keys) {
+        this(keys, "src/main/resources/application.yaml");
+    }
+
+    /**
+     * From yaml file.
+     *
+     * @param keys Of entries
+     * @param path To yaml file
+     */
+    public EVals(final Collection<String> keys, final String path) {
+        this(keys, new EFile(path));
+    }
+
+    /**
+     * From yaml content.
+     *
+     * @param keys Of entries
+     * @param content Yaml content
+     */
+    public EVals(final Collection<String> keys, final Entry<String> content) {
+        this(keys, new EYamlIndex(content), EEnv::new);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param keys Of entries
+     * @param index Flat yaml index
+     * @param vars Placeholder's values by names
+     */
+    public EVals(
+        final Collection<String> keys,
+        final EYamlIndex index,
+        final EFunc<String, Entry<String>> vars
+    ) {
+        this.keys = keys;
+        this.index = index;
+        this.vars = vars;
+    }
+
+    @Override
+    public Map<String, String> value() throws EntryException {
+        final Map<String, String> values = this.index.value();
+        final Map<String, String> resolved = new HashMap<>(this.keys.size() * 2);
+        final List<String> missing = new ArrayList<>(0);
+        for (final String key : this.keys) {
+            final String raw = values.get(key);
+            if (raw == null) {
+                missing.add(String.format("'%s' is null", key));
+                continue;
+            }
+            try {
+                resolved.put(key, new ETemplate(() -> raw, this.vars).value());
+            } catch (final EntryException exception) {
+                missing.add(String.format("'%s': %s", key, exception.getMessage()));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new EntryException(
+                String.format(
+                    "Failed to resolve %d of %d keys: %s",
+                    missing.size(),
+                    this.keys.size(),
+                    String.join(", ", missing)
+                )
+            );
+        }
+        return Map.copyOf(resolved);
+    }
+}
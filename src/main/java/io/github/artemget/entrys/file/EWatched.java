@@ -0,0 +1,359 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.Generation;
+import io.github.artemget.entrys.Generations;
+import io.github.artemget.entrys.func.EFunc;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Watched file's content entry.
+ * Watches file's directory with {@link WatchService} on a virtual thread,
+ * coalesces bursts of events until directory is quiet for debounce period,
+ * then reads and parses file once and atomically publishes new content
+ * as next {@link Generation} through {@link Generations}.
+ * Parsing before publishing warms shared caches, so all entries reading
+ * from this one, e.g. {@link EVal}, see new document without parsing it.
+ * Reacts to events of the file itself. If file is a symlink, reacts to
+ * any change in directory, so symlink swaps of mounted configs are
+ * picked up as well. Failed reload keeps last good content
+ * and is reported by {@link #error()}. Watching starts at the first read,
+ * directory is registered before file is read, so no change is missed.
+ * Watching stops on {@link #close()}.
+ *
+ * @since 0.5.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class EWatched implements Entry<String>, Closeable {
+    /**
+     * Watched file.
+     */
+    private final Path path;
+
+    /**
+     * Quiet period after the last event to reload file at.
+     */
+    private final Duration debounce;
+
+    /**
+     * Parser of content, called before content is published.
+     */
+    private final EFunc<String, ?> parser;
+
+    /**
+     * Generations of content, null until the first load.
+     */
+    private final AtomicReference<Generations<String>> generations;
+
+    /**
+     * Error of the last reload, null if it succeeded.
+     */
+    private final AtomicReference<EntryException> failure;
+
+    /**
+     * Lock of the first load.
+     */
+    private final Object lock;
+
+    /**
+     * Watch service, null until watching starts.
+     */
+    private final AtomicReference<WatchService> service;
+
+    /**
+     * Whether entry is closed.
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Ctor with 200 millis debounce, parsing content as yaml.
+     *
+     * @param path To file
+     */
+    public EWatched(final String path) {
+        this(path, Duration.ofMillis(200));
+    }
+
+    /**
+     * Ctor parsing content as yaml.
+     *
+     * @param path To file
+     * @param debounce Quiet period after the last event to reload file at
+     */
+    public EWatched(final String path, final Duration debounce) {
+        this(path, debounce, content -> new EYamlIndex(() -> content).value());
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param path To file
+     * @param debounce Quiet period after the last event to reload file at
+     * @param parser Of content, called before content is published
+     */
+    public EWatched(
+        final String path,
+        final Duration debounce,
+        final EFunc<String, ?> parser
+    ) {
+        this.path = Path.of(path).toAbsolutePath();
+        this.debounce = debounce;
+        this.parser = parser;
+        this.generations = new AtomicReference<>();
+        this.failure = new AtomicReference<>();
+        this.lock = new Object();
+        this.service = new AtomicReference<>();
+        this.closed = new AtomicBoolean();
+    }
+
+    @Override
+    public String value() throws EntryException {
+        return this.pinned().value();
+    }
+
+    /**
+     * Pins current generation of content. Entries reading from
+     * pinned generation see the same content during reloads.
+     *
+     * @return Generation
+     * @throws EntryException If failed to watch, read or parse file first time
+     */
+    public Generation<String> pinned() throws EntryException {
+        Generations<String> current = this.generations.get();
+        if (current == null) {
+            current = this.first();
+        }
+        return current.pinned();
+    }
+
+    @SuppressWarnings("PMD.CloseResource")
+    @Override
+    public void close() throws IOException {
+        this.closed.set(true);
+        final WatchService watcher = this.service.getAndSet(null);
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    /**
+     * Error of the last reload.
+     *
+     * @return Error or empty if last reload succeeded
+     */
+    public Optional<EntryException> error() {
+        return Optional.ofNullable(this.failure.get());
+    }
+
+    /**
+     * Loads content first time and starts watching.
+     *
+     * @return Generations of content
+     * @throws EntryException If failed to read or parse file or to watch it
+     */
+    private Generations<String> first() throws EntryException {
+        synchronized (this.lock) {
+            Generations<String> current = this.generations.get();
+            if (current == null) {
+                this.watch();
+                try {
+                    current = new Generations<>(this.parsed());
+                } catch (final EntryException exception) {
+                    this.unwatched();
+                    throw exception;
+                }
+                this.generations.set(current);
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Registers file's directory and starts watching it,
+     * unless entry is closed.
+     *
+     * @throws EntryException If failed to register directory
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    private void watch() throws EntryException {
+        if (!this.closed.get()) {
+            WatchService watcher = null;
+            try {
+                watcher = this.path.getFileSystem().newWatchService();
+                this.path.getParent().register(
+                    watcher,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE
+                );
+            } catch (final IOException | SecurityException exception) {
+                EWatched.shut(watcher);
+                throw new EntryException(
+                    String.format("Failed to watch file for path: '%s'", this.path),
+                    exception
+                );
+            }
+            this.service.set(watcher);
+            final WatchService started = watcher;
+            Thread.ofVirtual()
+                .name("entrys-watch")
+                .start(() -> this.watched(started));
+        }
+    }
+
+    /**
+     * Stops watching after failed first load, so the next read
+     * registers directory again.
+     */
+    private void unwatched() {
+        EWatched.shut(this.service.getAndSet(null));
+    }
+
+    /**
+     * Waits for events, coalesces them and reloads file, until closed.
+     *
+     * @param watcher Watch service
+     */
+    private void watched(final WatchService watcher) {
+        try {
+            while (!this.closed.get()) {
+                boolean changed = this.drained(watcher.take());
+                WatchKey next = watcher.poll(this.debounce.toMillis(), TimeUnit.MILLISECONDS);
+                while (next != null) {
+                    changed = this.drained(next) || changed;
+                    next = watcher.poll(this.debounce.toMillis(), TimeUnit.MILLISECONDS);
+                }
+                if (changed) {
+                    this.reload();
+                }
+            }
+        } catch (final ClosedWatchServiceException closing) {
+            this.closed.set(true);
+        } catch (final InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Reloads file and publishes its content as next generation.
+     */
+    private void reload() {
+        try {
+            this.generations.get().publish(this.parsed());
+            this.failure.set(null);
+        } catch (final EntryException exception) {
+            this.failure.set(exception);
+        }
+    }
+
+    /**
+     * Reads and parses file. Runtime failures of parser are wrapped too,
+     * so they never stop watching thread.
+     *
+     * @return Content
+     * @throws EntryException If failed to read or parse file
+     * @checkstyle IllegalCatchCheck (25 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private String parsed() throws EntryException {
+        final String content;
+        try {
+            content = Files.readString(this.path, StandardCharsets.UTF_8);
+        } catch (final IOException | SecurityException exception) {
+            throw new EntryException(
+                String.format("Failed to load contents of file for path: '%s'", this.path),
+                exception
+            );
+        }
+        try {
+            this.parser.apply(content);
+        } catch (final RuntimeException exception) {
+            throw new EntryException(
+                String.format("Failed to parse contents of file for path: '%s'", this.path),
+                exception
+            );
+        }
+        return content;
+    }
+
+    /**
+     * Drains events of key and resets it.
+     *
+     * @param key Watch key
+     * @return True if any event may change file
+     */
+    private boolean drained(final WatchKey key) {
+        boolean changed = false;
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            changed = changed || this.touches(event);
+        }
+        key.reset();
+        return changed;
+    }
+
+    /**
+     * Whether event may change file. Overflow may hide any event,
+     * any event in directory may swap target of symlink.
+     *
+     * @param event Of directory
+     * @return True if event may change file
+     */
+    private boolean touches(final WatchEvent<?> event) {
+        return StandardWatchEventKinds.OVERFLOW.equals(event.kind())
+            || this.path.getFileName().equals(event.context())
+            || Files.isSymbolicLink(this.path);
+    }
+
+    /**
+     * Closes watch service quietly.
+     *
+     * @param watcher Watch service, may be null
+     */
+    private static void shut(final WatchService watcher) {
+        if (watcher != null) {
+            try {
+                watcher.close();
+            } catch (final IOException ignored) {
+            }
+        }
+    }
+}
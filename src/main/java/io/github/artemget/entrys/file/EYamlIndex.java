@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.func.EFunc;
+import io.github.artemget.entrys.operation.EParsed;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Flat yaml index entry. Walks yaml document once and
+ * returns immutable map of values keyed by full dotted path,
+ * e.g. 'person.name'. Sequences are joined with ';'.
+ * Indexes are shared between all entries with the same content
+ * and engine. By default yaml is read by built-in parser
+ * falling back to eo-yaml at unsupported constructs.
+ *
+ * @since 0.5.0
+ */
+public final class EYamlIndex implements Entry<Map<String, String>> {
+    /**
+     * Indexes by engine and content.
+     */
+    private static final Map<Engine, Map<String, Map<String, String>>> CACHE =
+        EYamlIndex.caches();
+
+    /**
+     * Origin entry.
+     */
+    private final Entry<Map<String, String>> origin;
+
+    /**
+     * From yaml file.
+     *
+     * @param path To yaml file
+     */
+    public EYamlIndex(final String path) {
+        this(new EFile(path));
+    }
+
+    /**
+     * Ctor with default engine.
+     *
+     * @param content Yaml content
+     */
+    public EYamlIndex(final Entry<String> content) {
+        this(content, Engine.AUTO);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param content Yaml content
+     * @param engine Reading yaml
+     */
+    public EYamlIndex(final Entry<String> content, final Engine engine) {
+        this.origin = new EParsed<>(content, engine, EYamlIndex.CACHE.get(engine));
+    }
+
+    @Override
+    public Map<String, String> value() throws EntryException {
+        return this.origin.value();
+    }
+
+    /**
+     * Creates caches of all engines.
+     *
+     * @return Caches by engine
+     */
+    private static Map<Engine, Map<String, Map<String, String>>> caches() {
+        final Map<Engine, Map<String, Map<String, String>>> caches =
+            new EnumMap<>(Engine.class);
+        for (final Engine engine : Engine.values()) {
+            caches.put(engine, new ConcurrentHashMap<>());
+        }
+        return caches;
+    }
+
+    /**
+     * Engine reading yaml into flat index.
+     *
+     * @since 0.5.0
+     */
+    public enum Engine implements EFunc<String, Map<String, String>> {
+        /**
+         * Built-in parser of yaml subset: nested mappings with plain keys,
+         * scalars, flow and block sequences, quoted strings and comments.
+         * Fails at other constructs.
+         */
+        LITE {
+            @Override
+            public Map<String, String> apply(final String yaml) throws EntryException {
+                return new YamlLite(yaml).value();
+            }
+        },
+
+        /**
+         * Eo-yaml parser.
+         */
+        EO_YAML {
+            @Override
+            public Map<String, String> apply(final String yaml) throws EntryException {
+                return new YamlTree(yaml).value();
+            }
+        },
+
+        /**
+         * Built-in parser falling back to eo-yaml at unsupported constructs.
+         */
+        AUTO {
+            @Override
+            public Map<String, String> apply(final String yaml) throws EntryException {
+                Map<String, String> index;
+                try {
+                    index = Engine.LITE.apply(yaml);
+                } catch (final EntryException unsupported) {
+                    index = Engine.EO_YAML.apply(yaml);
+                }
+                return index;
+            }
+        }
+    }
+}
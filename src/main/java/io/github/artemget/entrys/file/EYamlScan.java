@@ -0,0 +1,205 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.EntryExceptionUnchecked;
+
+/**
+ * Streaming single-key yaml entry.
+ * Scans yaml text by indentation following only segments
+ * of the key, skips sibling subtrees without reading them
+ * and stops as soon as the value is found. Returns raw value,
+ * compose it with {@link ETemplate} to resolve placeholders.
+ * Falls back to {@link EYamlIndex} with its default engine if key is
+ * not found or at unsupported constructs, e.g. block scalars, flow mappings,
+ * anchors, tags and multiline flow collections, so scan fails only
+ * where the index fails as well. If key is duplicated, scan returns
+ * its first value, while the index keeps the last one.
+ *
+ * @since 0.5.0
+ */
+public final class EYamlScan implements Entry<String> {
+    /**
+     * Compiled key.
+     */
+    private final YamlKey key;
+
+    /**
+     * Yaml content.
+     */
+    private final Entry<? extends CharSequence> content;
+
+    /**
+     * From yaml file.
+     *
+     * @param key Of entry
+     * @param path To yaml file
+     */
+    public EYamlScan(final String key, final String path) {
+        this(key, new EFile(path));
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param key Of entry
+     * @param content Yaml content, e.g. mapped by {@link EChars}
+     */
+    public EYamlScan(final String key, final Entry<? extends CharSequence> content) {
+        this.key = new YamlKey(key);
+        this.content = content;
+    }
+
+    @Override
+    public String value() throws EntryException {
+        final CharSequence text = this.content.value();
+        final String value;
+        try {
+            value = this.read(text);
+        } catch (final EntryExceptionUnchecked exception) {
+            throw new EntryException("Failed to read yaml chars", exception);
+        }
+        if (value == null) {
+            throw new EntryException(
+                String.format("Attribute for key '%s' is null", this.key)
+            );
+        }
+        return value;
+    }
+
+    /**
+     * Scans text for the value of key, reads it from index
+     * if key is not found or at unsupported construct.
+     *
+     * @param text Yaml
+     * @return Value or null if absent
+     * @throws EntryException If failed to read yaml
+     */
+    private String read(final CharSequence text) throws EntryException {
+        String value;
+        try {
+            value = EYamlScan.scanned(this.key, new YamlLines(text));
+        } catch (final EntryException unsupported) {
+            value = this.indexed(text);
+        }
+        if (value == null) {
+            value = this.indexed(text);
+        }
+        return value;
+    }
+
+    /**
+     * Reads value of key from index.
+     *
+     * @param text Yaml
+     * @return Value or null if absent
+     * @throws EntryException If failed to read yaml
+     */
+    private String indexed(final CharSequence text) throws EntryException {
+        return new EYamlIndex(text::toString).value().get(this.key.toString());
+    }
+
+    /**
+     * Scans yaml lines for the value of key.
+     * Scalar met instead of mapping is read only to check
+     * that it is supported.
+     *
+     * @param key Compiled key
+     * @param lines Yaml lines
+     * @return Value or null if absent
+     * @throws EntryException At unsupported construct
+     */
+    private static String scanned(final YamlKey key, final YamlLines lines)
+        throws EntryException {
+        int matched = 0;
+        int parent = -1;
+        int level = -1;
+        String value = null;
+        while (lines.next() && lines.indent() > parent) {
+            if (level < 0) {
+                level = lines.indent();
+            }
+            if (EYamlScan.skipped(lines, level)) {
+                continue;
+            }
+            final int separator = lines.separator();
+            final int segments = lines.matched(separator, key, matched);
+            if (segments == 0) {
+                continue;
+            }
+            matched += segments;
+            if (matched == key.size()) {
+                value = EYamlScan.found(lines, separator);
+                break;
+            }
+            if (lines.valued(separator)) {
+                lines.value(separator);
+                break;
+            }
+            parent = level;
+            level = -1;
+        }
+        return value;
+    }
+
+    /**
+     * Reads value of found key.
+     *
+     * @param lines Yaml lines at key
+     * @param separator Position of key and value separator
+     * @return Value or null if value is absent or is a mapping
+     * @throws EntryException At unsupported construct
+     */
+    private static String found(final YamlLines lines, final int separator)
+        throws EntryException {
+        final int indent = lines.indent();
+        String value = null;
+        if (lines.valued(separator)) {
+            value = lines.value(separator);
+        } else if (lines.next() && lines.item() && lines.indent() >= indent) {
+            value = lines.sequence();
+        }
+        return value;
+    }
+
+    /**
+     * Whether line at current level is skipped.
+     * Skips lines of sibling subtrees and sequence items.
+     *
+     * @param lines Yaml lines
+     * @param level Indentation of current level
+     * @return True if line is skipped
+     * @throws EntryException At inconsistent indentation
+     */
+    private static boolean skipped(final YamlLines lines, final int level)
+        throws EntryException {
+        if (lines.indent() < level) {
+            throw new EntryException("Inconsistent yaml indentation");
+        }
+        return lines.indent() > level || lines.item();
+    }
+}
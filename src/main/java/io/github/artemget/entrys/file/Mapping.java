@@ -0,0 +1,245 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.EntryException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read only memory mapping of file stamped with file's
+ * modification time and size. Mappings are shared between all
+ * readers of the same file and are mapped again when file's stamp changes,
+ * so stale mapping is never served to new readers.
+ * Mapped files must be replaced atomically, e.g. written aside
+ * and renamed over: readers holding views over previous mapping then keep
+ * reading previous content. In place rewrite changes bytes under
+ * previously returned views and in place truncation makes reads
+ * of them fault.
+ *
+ * @since 0.5.0
+ */
+final class Mapping {
+    /**
+     * Message of access fault.
+     */
+    static final String FAULT = String.join(
+        " ",
+        "Mapped file was truncated while being read,",
+        "replace mapped files atomically by rename"
+    );
+
+    /**
+     * Max amount of cached mappings, cache is cleared when it is reached.
+     */
+    private static final int LIMIT = 64;
+
+    /**
+     * Mappings of already read files.
+     */
+    private static final Map<Path, Mapping> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Charsets that encode ascii chars as single bytes of the same value.
+     */
+    private static final Set<Charset> COMPATIBLE = Set.of(
+        StandardCharsets.US_ASCII, StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1
+    );
+
+    /**
+     * Modification time.
+     */
+    private final FileTime modified;
+
+    /**
+     * File size.
+     */
+    private final long size;
+
+    /**
+     * Mapped content.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Chars of content by charset.
+     */
+    private final Map<Charset, CharSequence> decoded;
+
+    /**
+     * Main ctor.
+     *
+     * @param modified Time
+     * @param size Of file
+     * @param buffer Mapped content
+     */
+    Mapping(final FileTime modified, final long size, final ByteBuffer buffer) {
+        this.modified = modified;
+        this.size = size;
+        this.buffer = buffer;
+        this.decoded = new ConcurrentHashMap<>(1);
+    }
+
+    /**
+     * Maps file or returns existing mapping if file was not changed.
+     *
+     * @param path To file
+     * @return Mapping
+     * @throws IOException If failed to map file
+     */
+    static Mapping mapped(final Path path) throws IOException {
+        final BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (final NoSuchFileException exception) {
+            Mapping.CACHE.remove(path);
+            throw exception;
+        }
+        Mapping mapping = Mapping.CACHE.get(path);
+        if (mapping == null || !mapping.fresh(attrs)) {
+            final ByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, attrs.size());
+            }
+            mapping = new Mapping(attrs.lastModifiedTime(), attrs.size(), buffer);
+            if (Mapping.CACHE.size() >= Mapping.LIMIT) {
+                Mapping.CACHE.clear();
+            }
+            Mapping.CACHE.put(path, mapping);
+        }
+        return mapping;
+    }
+
+    /**
+     * Mapped bytes.
+     *
+     * @return Read only view with own position
+     */
+    ByteBuffer bytes() {
+        return this.buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Mapped chars. Ascii content of ascii compatible charset is
+     * returned as view over mapped bytes, other content is decoded once.
+     *
+     * @param charset Of file
+     * @return Chars
+     * @throws EntryException If content is malformed for charset or file was truncated
+     */
+    CharSequence chars(final Charset charset) throws EntryException {
+        CharSequence chars = this.decoded.get(charset);
+        if (chars == null) {
+            try {
+                chars = this.charsOf(charset);
+            } catch (final InternalError fault) {
+                throw new EntryException(Mapping.FAULT, fault);
+            }
+            this.decoded.putIfAbsent(charset, chars);
+        }
+        return chars;
+    }
+
+    /**
+     * Reads chars of content.
+     *
+     * @param charset Of file
+     * @return Chars
+     * @throws EntryException If content is malformed for charset
+     */
+    private CharSequence charsOf(final Charset charset) throws EntryException {
+        final CharSequence chars;
+        if (Mapping.COMPATIBLE.contains(charset) && Mapping.textual(this.buffer)) {
+            chars = new AsciiChars(this.buffer);
+        } else {
+            try {
+                chars = Mapping.unicode(charset, this.bytes());
+            } catch (final CharacterCodingException exception) {
+                throw new EntryException(
+                    String.format("File content is malformed for charset %s", charset),
+                    exception
+                );
+            }
+        }
+        return chars;
+    }
+
+    /**
+     * Checks whether mapping is still actual.
+     *
+     * @param attrs Current file attributes
+     * @return True if file was not changed
+     */
+    private boolean fresh(final BasicFileAttributes attrs) {
+        return this.size == attrs.size()
+            && this.modified.equals(attrs.lastModifiedTime());
+    }
+
+    /**
+     * Decodes bytes reporting malformed input, like {@link Files#readString}.
+     *
+     * @param charset Of bytes
+     * @param bytes To decode
+     * @return Read only chars
+     * @throws CharacterCodingException If bytes are malformed
+     */
+    private static CharBuffer unicode(final Charset charset, final ByteBuffer bytes)
+        throws CharacterCodingException {
+        return charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT)
+            .decode(bytes)
+            .asReadOnlyBuffer();
+    }
+
+    /**
+     * Checks whether buffer contains only ascii bytes.
+     *
+     * @param buffer To check
+     * @return True if there are no bytes above 127
+     */
+    private static boolean textual(final ByteBuffer buffer) {
+        boolean ascii = true;
+        for (int pos = buffer.position(); ascii && pos < buffer.limit(); ++pos) {
+            ascii = buffer.get(pos) >= 0;
+        }
+        return ascii;
+    }
+}
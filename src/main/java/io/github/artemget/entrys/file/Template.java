@@ -0,0 +1,211 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.func.EFunc;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compiled template with ${NAME} and ${NAME:default} placeholders,
+ * e.g. 'jdbc:${HOST:localhost}:${PORT:5432}/db'.
+ * Template is split into literals and placeholders once,
+ * resolving costs one lookup per placeholder.
+ *
+ * @since 0.5.0
+ */
+final class Template {
+    /**
+     * Literals around placeholders, one more than placeholders.
+     */
+    private final String[] literals;
+
+    /**
+     * Names of placeholders.
+     */
+    private final String[] names;
+
+    /**
+     * Defaults of placeholders, null if placeholder has no default.
+     */
+    private final String[] defaults;
+
+    /**
+     * Main ctor.
+     *
+     * @param text To compile
+     */
+    Template(final String text) {
+        this(Template.parsed(text));
+    }
+
+    /**
+     * Ctor from parsed parts.
+     *
+     * @param parts Literals, names and defaults
+     */
+    private Template(final String[]... parts) {
+        this.literals = parts[0];
+        this.names = parts[1];
+        this.defaults = parts[2];
+    }
+
+    /**
+     * Resolves placeholders.
+     *
+     * @param vars Placeholder's values by names
+     * @return Resolved text or empty if any placeholder has no value
+     */
+    Optional<String> resolved(final EFunc<String, Entry<String>> vars) {
+        final String[] values = new String[this.names.length];
+        int length = 0;
+        boolean resolved = true;
+        for (int index = 0; resolved && index < this.names.length; ++index) {
+            values[index] = this.value(index, vars);
+            resolved = values[index] != null;
+            if (resolved) {
+                length += values[index].length() + this.literals[index].length();
+            }
+        }
+        final Optional<String> text;
+        if (resolved && values.length == 1 && this.literals[0].isEmpty()
+            && this.literals[1].isEmpty()) {
+            text = Optional.of(values[0]);
+        } else if (resolved) {
+            final StringBuilder builder = new StringBuilder(
+                length + this.literals[this.names.length].length()
+            );
+            for (int index = 0; index < values.length; ++index) {
+                builder.append(this.literals[index]).append(values[index]);
+            }
+            text = Optional.of(
+                builder.append(this.literals[this.names.length]).toString()
+            );
+        } else {
+            text = Optional.empty();
+        }
+        return text;
+    }
+
+    /**
+     * Names of placeholders without value.
+     *
+     * @param vars Placeholder's values by names
+     * @return Names
+     */
+    List<String> missing(final EFunc<String, Entry<String>> vars) {
+        final List<String> missing = new ArrayList<>(1);
+        for (int index = 0; index < this.names.length; ++index) {
+            if (this.value(index, vars) == null) {
+                missing.add(this.names[index]);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Value of placeholder.
+     *
+     * @param index Of placeholder
+     * @param vars Placeholder's values by names
+     * @return Value, default or null if both are absent
+     */
+    private String value(final int index, final EFunc<String, Entry<String>> vars) {
+        Optional<String> value;
+        try {
+            value = vars.apply(this.names[index]).probe();
+        } catch (final EntryException exception) {
+            value = Optional.empty();
+        }
+        return value.orElse(this.defaults[index]);
+    }
+
+    /**
+     * Splits text into literals and placeholders.
+     *
+     * @param text To split
+     * @return Literals, names and defaults
+     */
+    private static String[][] parsed(final String text) {
+        final List<String> literals = new ArrayList<>(2);
+        final List<String> names = new ArrayList<>(1);
+        final List<String> defaults = new ArrayList<>(1);
+        final StringBuilder literal = new StringBuilder(text.length());
+        int pos = 0;
+        int start = text.indexOf("${");
+        while (start >= 0) {
+            final int end = Template.closing(text, start + 2);
+            if (end < 0) {
+                break;
+            }
+            literals.add(literal.append(text, pos, start).toString());
+            literal.setLength(0);
+            final String inner = text.substring(start + 2, end);
+            final int colon = inner.indexOf(':');
+            if (colon >= 0) {
+                names.add(inner.substring(0, colon).trim());
+                defaults.add(inner.substring(colon + 1));
+            } else {
+                names.add(inner.trim());
+                defaults.add(null);
+            }
+            pos = end + 1;
+            start = text.indexOf("${", pos);
+        }
+        literals.add(literal.append(text, pos, text.length()).toString());
+        return new String[][] {
+            literals.toArray(new String[0]),
+            names.toArray(new String[0]),
+            defaults.toArray(new String[0]),
+        };
+    }
+
+    /**
+     * Finds closing brace of placeholder considering nested braces.
+     *
+     * @param text To search in
+     * @param from Position after placeholder's opening
+     * @return Position of closing brace or -1 if absent
+     */
+    private static int closing(final String text, final int from) {
+        int depth = 0;
+        int found = -1;
+        for (int pos = from; found < 0 && pos < text.length(); ++pos) {
+            final char chr = text.charAt(pos);
+            if (chr == '{') {
+                depth += 1;
+            } else if (chr == '}') {
+                if (depth == 0) {
+                    found = pos;
+                }
+                depth -= 1;
+            }
+        }
+        return found;
+    }
+}
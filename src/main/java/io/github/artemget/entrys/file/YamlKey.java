@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled dotted yaml key, e.g. 'person.name'.
+ * Key is split into segments once at construction,
+ * so lookups do no string splitting.
+ *
+ * @since 0.5.0
+ */
+final class YamlKey {
+    /**
+     * Full dotted key.
+     */
+    private final String dotted;
+
+    /**
+     * Key segments.
+     */
+    private final String[] segments;
+
+    /**
+     * Main ctor.
+     *
+     * @param dotted Full dotted key
+     */
+    YamlKey(final String dotted) {
+        this.dotted = dotted;
+        this.segments = YamlKey.split(dotted);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other
+            || other instanceof YamlKey && this.dotted.equals(((YamlKey) other).dotted);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.dotted.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.dotted;
+    }
+
+    /**
+     * Amount of segments.
+     *
+     * @return Size
+     */
+    int size() {
+        return this.segments.length;
+    }
+
+    /**
+     * Segment at position.
+     *
+     * @param index Of segment
+     * @return Segment
+     */
+    String segment(final int index) {
+        return this.segments[index];
+    }
+
+    /**
+     * Checks whether region of chars equals to segment without
+     * copying the region.
+     *
+     * @param index Of segment
+     * @param chars To compare with
+     * @param start Of region, inclusive
+     * @param end Of region, exclusive
+     * @return True if region equals to segment
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    boolean same(
+        final int index,
+        final CharSequence chars,
+        final int start,
+        final int end
+    ) {
+        final String segment = this.segments[index];
+        boolean same = end - start == segment.length();
+        for (int pos = 0; same && pos < segment.length(); ++pos) {
+            same = segment.charAt(pos) == chars.charAt(start + pos);
+        }
+        return same;
+    }
+
+    /**
+     * Splits key by dots without regex.
+     *
+     * @param dotted Key
+     * @return Segments
+     */
+    private static String[] split(final String dotted) {
+        final List<String> segments = new ArrayList<>(4);
+        int start = 0;
+        int dot = dotted.indexOf('.');
+        while (dot >= 0) {
+            segments.add(dotted.substring(start, dot));
+            start = dot + 1;
+            dot = dotted.indexOf('.', start);
+        }
+        segments.add(dotted.substring(start));
+        return segments.toArray(new String[0]);
+    }
+}
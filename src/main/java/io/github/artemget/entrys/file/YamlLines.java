@@ -0,0 +1,611 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.EntryException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cursor over lines of yaml text.
+ * Reads the yaml subset supported by entries: block mappings,
+ * plain and quoted scalars, flow and block sequences of scalars
+ * and comments. Works over chars directly without splitting text
+ * into lines. Throws {@link EntryException} at any other construct,
+ * so callers may fall back to complete yaml parser.
+ *
+ * @since 0.5.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class YamlLines {
+    /**
+     * Yaml text.
+     */
+    private final CharSequence text;
+
+    /**
+     * Start of the next line.
+     */
+    private int cursor;
+
+    /**
+     * Number of current line.
+     */
+    private int number;
+
+    /**
+     * Start of current line's content, after indentation.
+     */
+    private int start;
+
+    /**
+     * End of current line, exclusive.
+     */
+    private int end;
+
+    /**
+     * Indentation of current line.
+     */
+    private int spaces;
+
+    /**
+     * Whether current line should be returned by next call of {@link #next()}.
+     */
+    private boolean held;
+
+    /**
+     * Main ctor.
+     *
+     * @param text Yaml
+     */
+    YamlLines(final CharSequence text) {
+        this.text = text;
+    }
+
+    /**
+     * Moves to the next line with content.
+     * Skips blank lines, comments and document markers.
+     *
+     * @return False if there are no more lines
+     * @throws EntryException If line is indented with tabs or has bare carriage return
+     */
+    boolean next() throws EntryException {
+        boolean found = this.held;
+        this.held = false;
+        while (!found && this.cursor < this.text.length()) {
+            this.line();
+            found = this.start < this.end
+                && this.text.charAt(this.start) != '#'
+                && !(this.spaces == 0 && this.marker());
+        }
+        return found;
+    }
+
+    /**
+     * Makes the next call of {@link #next()} return current line again.
+     */
+    void hold() {
+        this.held = true;
+    }
+
+    /**
+     * Indentation of current line.
+     *
+     * @return Amount of spaces
+     */
+    int indent() {
+        return this.spaces;
+    }
+
+    /**
+     * Whether current line is an item of block sequence.
+     *
+     * @return True if line starts with '- '
+     */
+    boolean item() {
+        return this.text.charAt(this.start) == '-' && this.spaced(this.start + 1);
+    }
+
+    /**
+     * Position of key and value separator of current line.
+     * Only plain keys are supported: empty, quoted keys, keys with quotes
+     * and keys starting with indicator chars are read by complete parser.
+     *
+     * @return Position of ':'
+     * @throws EntryException If line is not a mapping entry with plain key
+     */
+    int separator() throws EntryException {
+        if ("?{[&*!-,:%|>\"'@`".indexOf(this.text.charAt(this.start)) >= 0) {
+            throw this.unsupported("not plain key");
+        }
+        int pos = this.start;
+        while (pos < this.end && !this.separates(pos)) {
+            final char chr = this.text.charAt(pos);
+            if (chr == '"' || chr == '\'') {
+                throw this.unsupported("quote in key");
+            }
+            pos += 1;
+        }
+        if (pos == this.end) {
+            throw this.unsupported("line without key");
+        }
+        return pos;
+    }
+
+    /**
+     * Key of current line.
+     *
+     * @param separator Position of key and value separator
+     * @return Key
+     */
+    String key(final int separator) {
+        final int[] bounds = this.bounds(separator);
+        return this.text.subSequence(bounds[0], bounds[1]).toString();
+    }
+
+    /**
+     * Amount of key segments matched by key of current line.
+     * Key of line may contain dots and match several segments.
+     *
+     * @param separator Position of key and value separator
+     * @param key Compiled key
+     * @param index Of the first segment to match
+     * @return Amount of matched segments, 0 if none
+     */
+    int matched(final int separator, final YamlKey key, final int index) {
+        final int[] bounds = this.bounds(separator);
+        int matched = 0;
+        int from = bounds[0];
+        for (int seg = index; seg < key.size() && from <= bounds[1]; ++seg) {
+            int dot = from;
+            while (dot < bounds[1] && this.text.charAt(dot) != '.') {
+                dot += 1;
+            }
+            if (!key.same(seg, this.text, from, dot)) {
+                break;
+            }
+            if (dot == bounds[1]) {
+                matched = seg - index + 1;
+            }
+            from = dot + 1;
+        }
+        return matched;
+    }
+
+    /**
+     * Whether current line has value after separator.
+     *
+     * @param separator Position of key and value separator
+     * @return True if there is value
+     */
+    boolean valued(final int separator) {
+        final int pos = this.skipped(separator + 1);
+        return pos < this.end && this.text.charAt(pos) != '#';
+    }
+
+    /**
+     * Value of current line after separator.
+     *
+     * @param separator Position of key and value separator
+     * @return Value, sequence items are joined with ';', null for yaml null
+     *  and sequences that contain not only scalars
+     * @throws EntryException At unsupported value
+     */
+    String value(final int separator) throws EntryException {
+        final int pos = this.skipped(separator + 1);
+        final String value;
+        if (this.text.charAt(pos) == '[') {
+            value = this.flow(pos);
+        } else {
+            value = this.scalar(pos, this.end, true);
+        }
+        return value;
+    }
+
+    /**
+     * Reads block sequence starting at current line.
+     * Holds the first line after sequence.
+     *
+     * @return Items joined with ';', null if sequence contains not only scalars
+     * @throws EntryException At unsupported item
+     */
+    String sequence() throws EntryException {
+        final int level = this.spaces;
+        final List<String> items = new ArrayList<>(4);
+        boolean scalars = true;
+        boolean more = true;
+        while (more) {
+            if (this.spaces == level && this.item()) {
+                scalars = this.scalar(items) && scalars;
+            } else if (this.spaces <= level) {
+                this.hold();
+                break;
+            } else if (scalars) {
+                throw this.unsupported("multiline sequence item");
+            }
+            more = this.next();
+        }
+        final String joined;
+        if (scalars) {
+            joined = String.join(";", items);
+        } else {
+            joined = null;
+        }
+        return joined;
+    }
+
+    /**
+     * Reads item of block sequence at current line.
+     *
+     * @param items To add scalar item to
+     * @return False if item is not a scalar
+     * @throws EntryException At unsupported item
+     */
+    private boolean scalar(final List<String> items) throws EntryException {
+        final int pos = this.skipped(this.start + 1);
+        if (pos == this.end || this.text.charAt(pos) == '#') {
+            throw this.unsupported("empty sequence item");
+        }
+        final char first = this.text.charAt(pos);
+        if (first == '-') {
+            throw this.unsupported("nested sequence");
+        }
+        final boolean scalar = first != '[' && first != '{' && !this.mapped(pos);
+        if (scalar) {
+            items.add(this.scalar(pos, this.end, false));
+        }
+        return scalar;
+    }
+
+    /**
+     * Reads flow sequence of scalars.
+     *
+     * @param from Position of '['
+     * @return Items joined with ';', null if sequence contains not only scalars
+     * @throws EntryException At unsupported sequence
+     */
+    private String flow(final int from) throws EntryException {
+        final int close = this.bracket(from);
+        this.trailing(close + 1, "text after flow sequence");
+        String joined = null;
+        if (!this.nested(from + 1, close)) {
+            final List<String> items = new ArrayList<>(4);
+            int pos = this.skipped(from + 1);
+            while (pos < close) {
+                final int comma = this.comma(pos, close);
+                items.add(this.scalar(pos, comma, false));
+                pos = this.skipped(comma + 1);
+            }
+            joined = String.join(";", items);
+        }
+        return joined;
+    }
+
+    /**
+     * Reads scalar.
+     *
+     * @param from Start of scalar
+     * @param until End of region to read scalar from
+     * @param nulls Whether plain 'null' is read as null
+     * @return Scalar, without quotes and comment
+     * @throws EntryException At unsupported scalar
+     */
+    private String scalar(final int from, final int until, final boolean nulls)
+        throws EntryException {
+        final char first = this.text.charAt(from);
+        final String scalar;
+        if (first == '"' || first == '\'') {
+            scalar = this.quoted(from, until);
+        } else if ("{|>&*!%@`".indexOf(first) >= 0) {
+            throw this.unsupported("non plain scalar");
+        } else {
+            final String plain = this.plain(from, until);
+            if (nulls && "null".equals(plain)) {
+                scalar = null;
+            } else {
+                scalar = plain;
+            }
+        }
+        return scalar;
+    }
+
+    /**
+     * Reads quoted scalar as is, without unescaping.
+     *
+     * @param from Position of opening quote
+     * @param until End of region to read scalar from
+     * @return Scalar without quotes
+     * @throws EntryException If there is text after closing quote
+     */
+    private String quoted(final int from, final int until) throws EntryException {
+        final int closing = this.closing(from);
+        final int rest = this.skipped(closing + 1);
+        if (rest < until && this.text.charAt(rest) != '#') {
+            throw this.unsupported("text after quoted scalar");
+        }
+        return this.text.subSequence(from + 1, closing).toString();
+    }
+
+    /**
+     * Reads plain scalar without comment.
+     *
+     * @param from Start of scalar
+     * @param until End of region to read scalar from
+     * @return Scalar
+     */
+    private String plain(final int from, final int until) {
+        int stop = from;
+        while (stop < until && !(this.text.charAt(stop) == '#'
+            && YamlLines.blank(this.text.charAt(stop - 1)))) {
+            stop += 1;
+        }
+        return this.text.subSequence(from, this.trimmed(from, stop)).toString();
+    }
+
+    /**
+     * Whether sequence item at position is a mapping.
+     *
+     * @param from Start of item
+     * @return True if item contains key and value separator
+     */
+    private boolean mapped(final int from) {
+        boolean mapped = false;
+        final char first = this.text.charAt(from);
+        if (first != '"' && first != '\'') {
+            for (int pos = from; !mapped && pos < this.end; ++pos) {
+                mapped = this.separates(pos);
+            }
+        }
+        return mapped;
+    }
+
+    /**
+     * Whether char at position is a key and value separator.
+     *
+     * @param pos Position
+     * @return True for ':' followed by space or end of line
+     */
+    private boolean separates(final int pos) {
+        return this.text.charAt(pos) == ':' && this.spaced(pos + 1);
+    }
+
+    /**
+     * Whether position is a space or end of line.
+     *
+     * @param pos Position
+     * @return True for space or end of line
+     */
+    private boolean spaced(final int pos) {
+        return pos == this.end || this.text.charAt(pos) == ' ';
+    }
+
+    /**
+     * Bounds of key of current line, without trailing spaces.
+     *
+     * @param separator Position of key and value separator
+     * @return Start and end
+     */
+    private int[] bounds(final int separator) {
+        return new int[] {this.start, this.trimmed(this.start, separator)};
+    }
+
+    /**
+     * Finds closing quote of quoted scalar on current line.
+     *
+     * @param from Position of opening quote
+     * @return Position of closing quote
+     * @throws EntryException If quote is not closed on current line
+     */
+    private int closing(final int from) throws EntryException {
+        final char quote = this.text.charAt(from);
+        int pos = from + 1;
+        while (pos < this.end && this.text.charAt(pos) != quote) {
+            if (quote == '"' && this.text.charAt(pos) == '\\') {
+                pos += 1;
+            }
+            pos += 1;
+        }
+        if (quote == '\'' && pos + 1 < this.end && this.text.charAt(pos + 1) == quote) {
+            pos = this.closing(pos + 1);
+        }
+        if (pos >= this.end) {
+            throw this.unsupported("multiline quoted scalar");
+        }
+        return pos;
+    }
+
+    /**
+     * Finds closing bracket of flow collection on current line.
+     *
+     * @param from Position of opening bracket
+     * @return Position of closing bracket
+     * @throws EntryException If collection is not closed on current line
+     */
+    private int bracket(final int from) throws EntryException {
+        int depth = 0;
+        int pos = from;
+        do {
+            final char chr = this.text.charAt(pos);
+            if (chr == '"' || chr == '\'') {
+                pos = this.closing(pos);
+            } else if (chr == '[' || chr == '{') {
+                depth += 1;
+            } else if (chr == ']' || chr == '}') {
+                depth -= 1;
+            }
+            pos += 1;
+        } while (depth > 0 && pos < this.end);
+        if (depth > 0) {
+            throw this.unsupported("multiline flow collection");
+        }
+        return pos - 1;
+    }
+
+    /**
+     * Whether region contains nested flow collections.
+     *
+     * @param from Start of region
+     * @param until End of region
+     * @return True if there are brackets outside of quotes
+     * @throws EntryException If quote is not closed
+     */
+    private boolean nested(final int from, final int until) throws EntryException {
+        boolean nested = false;
+        int pos = from;
+        while (!nested && pos < until) {
+            final char chr = this.text.charAt(pos);
+            if (chr == '"' || chr == '\'') {
+                pos = this.closing(pos);
+            } else {
+                nested = chr == '[' || chr == '{';
+            }
+            pos += 1;
+        }
+        return nested;
+    }
+
+    /**
+     * Finds comma outside of quotes.
+     *
+     * @param from Start of region
+     * @param until End of region
+     * @return Position of comma or end of region
+     * @throws EntryException If quote is not closed
+     */
+    private int comma(final int from, final int until) throws EntryException {
+        int pos = from;
+        while (pos < until && this.text.charAt(pos) != ',') {
+            final char chr = this.text.charAt(pos);
+            if (chr == '"' || chr == '\'') {
+                pos = this.closing(pos);
+            }
+            pos += 1;
+        }
+        return pos;
+    }
+
+    /**
+     * Checks that there is only comment after position.
+     *
+     * @param from Position
+     * @param construct Description of construct if there is some text
+     * @throws EntryException If there is some text
+     */
+    private void trailing(final int from, final String construct) throws EntryException {
+        final int pos = this.skipped(from);
+        if (pos < this.end && this.text.charAt(pos) != '#') {
+            throw this.unsupported(construct);
+        }
+    }
+
+    /**
+     * Position of the first not blank char.
+     *
+     * @param from Position to start from
+     * @return Position or end of line
+     */
+    private int skipped(final int from) {
+        int pos = from;
+        while (pos < this.end && YamlLines.blank(this.text.charAt(pos))) {
+            pos += 1;
+        }
+        return pos;
+    }
+
+    /**
+     * End of region without trailing blank chars.
+     *
+     * @param from Start of region
+     * @param until End of region
+     * @return New end of region
+     */
+    private int trimmed(final int from, final int until) {
+        int pos = until;
+        while (pos > from && YamlLines.blank(this.text.charAt(pos - 1))) {
+            pos -= 1;
+        }
+        return pos;
+    }
+
+    /**
+     * Reads bounds of the next line.
+     * Carriage return is supported only as a part of CRLF line break.
+     *
+     * @throws EntryException If line is indented with tabs or has bare carriage return
+     */
+    private void line() throws EntryException {
+        this.number += 1;
+        int pos = this.cursor;
+        while (pos < this.text.length() && this.text.charAt(pos) == ' ') {
+            pos += 1;
+        }
+        this.spaces = pos - this.cursor;
+        this.start = pos;
+        while (pos < this.text.length() && this.text.charAt(pos) != '\n') {
+            if (this.text.charAt(pos) == '\r' && pos + 1 < this.text.length()
+                && this.text.charAt(pos + 1) != '\n') {
+                throw this.unsupported("bare carriage return");
+            }
+            pos += 1;
+        }
+        this.cursor = pos + 1;
+        this.end = this.trimmed(this.start, pos);
+        if (this.start < this.end && this.text.charAt(this.start) == '\t') {
+            throw this.unsupported("tab indentation");
+        }
+    }
+
+    /**
+     * Whether current line is a document marker.
+     *
+     * @return True for '---' and '...'
+     */
+    private boolean marker() {
+        final CharSequence line = this.text.subSequence(this.start, this.end);
+        return "---".contentEquals(line) || "...".contentEquals(line);
+    }
+
+    /**
+     * Exception at unsupported construct.
+     *
+     * @param construct Description
+     * @return Exception
+     */
+    private EntryException unsupported(final String construct) {
+        return new EntryException(
+            String.format("Unsupported yaml construct: %s at line %d", construct, this.number)
+        );
+    }
+
+    /**
+     * Whether char is blank.
+     *
+     * @param chr Char
+     * @return True for space, tab and carriage return
+     */
+    private static boolean blank(final char chr) {
+        return chr == ' ' || chr == '\t' || chr == '\r';
+    }
+}
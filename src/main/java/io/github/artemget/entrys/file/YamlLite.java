@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.EntryException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Flat index of yaml subset built without yaml library.
+ * Supports nested block mappings with plain keys, plain and quoted
+ * scalars, flow and block sequences of scalars and comments. Reads chars
+ * in place, allocating only keys and values.
+ * Throws {@link EntryException} at any other construct.
+ *
+ * @since 0.5.0
+ */
+final class YamlLite {
+    /**
+     * Yaml text.
+     */
+    private final CharSequence text;
+
+    /**
+     * Main ctor.
+     *
+     * @param text Yaml
+     */
+    YamlLite(final CharSequence text) {
+        this.text = text;
+    }
+
+    /**
+     * Builds flat index of yaml values keyed by dotted path.
+     *
+     * @return Immutable index
+     * @throws EntryException At unsupported construct
+     */
+    Map<String, String> value() throws EntryException {
+        final YamlLines lines = new YamlLines(this.text);
+        final Map<String, String> index = new HashMap<>();
+        if (lines.next() && YamlLite.mapping(lines, "", lines.indent(), index)) {
+            throw YamlLite.unsupported();
+        }
+        return Map.copyOf(index);
+    }
+
+    /**
+     * Reads block mapping starting at current line.
+     *
+     * @param lines Yaml lines
+     * @param prefix Of mapping's keys
+     * @param indent Of mapping's keys
+     * @param index To fill
+     * @return False if there are no more lines
+     * @throws EntryException At unsupported construct
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static boolean mapping(
+        final YamlLines lines,
+        final String prefix,
+        final int indent,
+        final Map<String, String> index
+    ) throws EntryException {
+        boolean more = true;
+        while (more && lines.indent() >= indent) {
+            if (lines.indent() != indent || lines.item()) {
+                throw YamlLite.unsupported();
+            }
+            final int separator = lines.separator();
+            final String key = prefix + lines.key(separator);
+            if (lines.valued(separator)) {
+                YamlLite.put(index, key, lines.value(separator));
+                more = lines.next();
+            } else {
+                more = YamlLite.nested(lines, key, indent, index);
+            }
+        }
+        return more;
+    }
+
+    /**
+     * Reads block sequence or mapping after key without value.
+     *
+     * @param lines Yaml lines at key
+     * @param key Dotted key
+     * @param indent Of key
+     * @param index To fill
+     * @return False if there are no more lines
+     * @throws EntryException At unsupported construct
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static boolean nested(
+        final YamlLines lines,
+        final String key,
+        final int indent,
+        final Map<String, String> index
+    ) throws EntryException {
+        boolean more = lines.next();
+        if (more && lines.item() && lines.indent() >= indent) {
+            YamlLite.put(index, key, lines.sequence());
+            more = lines.next();
+        } else if (more && lines.indent() > indent) {
+            more = YamlLite.mapping(lines, key + '.', lines.indent(), index);
+        }
+        return more;
+    }
+
+    /**
+     * Exception at unsupported indentation.
+     *
+     * @return Exception
+     */
+    private static EntryException unsupported() {
+        return new EntryException(
+            "Unsupported yaml construct: unexpected indentation or sequence"
+        );
+    }
+
+    /**
+     * Puts value to index, the first value of duplicated key wins.
+     *
+     * @param index To fill
+     * @param key Dotted key
+     * @param value Value, null values are skipped
+     */
+    private static void put(
+        final Map<String, String> index,
+        final String key,
+        final String value
+    ) {
+        if (value != null) {
+            index.putIfAbsent(key, value);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import com.amihaiemil.eoyaml.Node;
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.amihaiemil.eoyaml.YamlNode;
+import io.github.artemget.entrys.EntryException;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Flat index of yaml built by walking eo-yaml tree.
+ *
+ * @since 0.5.0
+ */
+final class YamlTree {
+    /**
+     * Yaml text.
+     */
+    private final String text;
+
+    /**
+     * Main ctor.
+     *
+     * @param text Yaml
+     */
+    YamlTree(final String text) {
+        this.text = text;
+    }
+
+    /**
+     * Builds flat index of yaml values keyed by dotted path.
+     *
+     * @return Immutable index
+     * @throws EntryException If yaml is malformed or is not a mapping
+     */
+    Map<String, String> value() throws EntryException {
+        final Map<String, String> index = new HashMap<>();
+        try {
+            YamlTree.indexed(Yaml.createYamlInput(this.text).readYamlMapping(), "", index);
+        } catch (final IOException | IllegalStateException exception) {
+            throw new EntryException("Failed to parse yaml mapping", exception);
+        }
+        return Map.copyOf(index);
+    }
+
+    /**
+     * Puts all scalar and sequence values of mapping to index.
+     * Sequences that contain not only scalars are skipped.
+     *
+     * @param mapping To walk
+     * @param prefix Of mapping's keys
+     * @param index To fill
+     */
+    private static void indexed(
+        final YamlMapping mapping,
+        final String prefix,
+        final Map<String, String> index
+    ) {
+        for (final YamlNode node : mapping.keys()) {
+            if (Node.SCALAR != node.type()) {
+                continue;
+            }
+            final String key = prefix + node.asScalar().value();
+            final YamlNode value = mapping.value(node);
+            if (value == null) {
+                continue;
+            }
+            if (Node.MAPPING == value.type()) {
+                YamlTree.indexed(value.asMapping(), key + '.', index);
+            } else if (Node.SCALAR == value.type()) {
+                final String scalar = value.asScalar().value();
+                if (scalar != null) {
+                    index.put(key, scalar);
+                }
+            } else if (Node.SEQUENCE == value.type()
+                && value.asSequence().children().stream()
+                    .allMatch(child -> Node.SCALAR == child.type())) {
+                index.put(
+                    key,
+                    value.asSequence().children().stream()
+                        .map(child -> child.asScalar().value())
+                        .collect(Collectors.joining(";"))
+                );
+            }
+        }
+    }
+}
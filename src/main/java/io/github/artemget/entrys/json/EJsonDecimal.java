@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import java.math.BigDecimal;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+/**
+ * Eject {@link BigDecimal} from provided json number without precision loss.
+ *
+ * @since 0.5.0
+ */
+public final class EJsonDecimal implements Entry<BigDecimal> {
+    /**
+     * Source json number.
+     */
+    private final Entry<JsonNumber> number;
+
+    /**
+     * Get {@link BigDecimal} by it's attribute name.
+     *
+     * @param json Object
+     * @param attr To lookup
+     */
+    public EJsonDecimal(final JsonObject json, final String attr) {
+        this(() -> json, attr);
+    }
+
+    /**
+     * Get {@link BigDecimal} by it's attribute name.
+     *
+     * @param json Source json
+     * @param attr To lookup
+     */
+    public EJsonDecimal(final Entry<JsonObject> json, final String attr) {
+        this(new JsonMember(json, attr));
+    }
+
+    /**
+     * Get {@link BigDecimal} from json value,
+     * e.g. found by {@link EJsonPath} or {@link EJsonScan}.
+     *
+     * @param json Source json value
+     */
+    public EJsonDecimal(final Entry<? extends JsonValue> json) {
+        this.number = new JsonNum(json, "BigDecimal");
+    }
+
+    @Override
+    public BigDecimal value() throws EntryException {
+        return this.number.value().bigDecimalValue();
+    }
+}
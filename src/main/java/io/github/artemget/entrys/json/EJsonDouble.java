@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.DoubleEntry;
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+/**
+ * Eject double from provided json number without boxing.
+ *
+ * @since 0.5.0
+ */
+public final class EJsonDouble implements DoubleEntry {
+    /**
+     * Source json number.
+     */
+    private final Entry<JsonNumber> number;
+
+    /**
+     * Get double by it's attribute name.
+     *
+     * @param json Object
+     * @param attr To lookup
+     */
+    public EJsonDouble(final JsonObject json, final String attr) {
+        this(() -> json, attr);
+    }
+
+    /**
+     * Get double by it's attribute name.
+     *
+     * @param json Source json
+     * @param attr To lookup
+     */
+    public EJsonDouble(final Entry<JsonObject> json, final String attr) {
+        this(new JsonMember(json, attr));
+    }
+
+    /**
+     * Get double from json value,
+     * e.g. found by {@link EJsonPath} or {@link EJsonScan}.
+     *
+     * @param json Source json value
+     */
+    public EJsonDouble(final Entry<? extends JsonValue> json) {
+        this.number = new JsonNum(json, "double");
+    }
+
+    @Override
+    public double doubleValue() throws EntryException {
+        return this.number.value().doubleValue();
+    }
+}
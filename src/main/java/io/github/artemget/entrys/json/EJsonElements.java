@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.operation.Indexed;
+import java.util.Spliterator;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+/**
+ * Elements of json array as sized spliterator.
+ * Splits by index, so large arrays may be converted by parallel stream.
+ * Collect elements with {@link io.github.artemget.entrys.operation.ECollected}.
+ *
+ * @since 0.5.0
+ */
+public final class EJsonElements implements Entry<Spliterator<JsonValue>> {
+    /**
+     * Source json array.
+     */
+    private final Entry<JsonArray> array;
+
+    /**
+     * Get elements of array by it's attribute name.
+     *
+     * @param json Source json
+     * @param attr To lookup
+     */
+    public EJsonElements(final Entry<JsonObject> json, final String attr) {
+        this(new EJsonArr(json, attr));
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param array Source json array
+     */
+    public EJsonElements(final Entry<JsonArray> array) {
+        this.array = array;
+    }
+
+    @Override
+    public Spliterator<JsonValue> value() throws EntryException {
+        final JsonArray elements = this.array.value();
+        return new Indexed<>(elements::get, elements.size());
+    }
+}
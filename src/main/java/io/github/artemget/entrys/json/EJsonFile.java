@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.file.EFile;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import javax.json.JsonObject;
+
+/**
+ * Json object parsed from file.
+ * File is read again only when it changes, parsed object
+ * is shared between all entries with the same content.
+ *
+ * @since 0.5.0
+ */
+public final class EJsonFile implements Entry<JsonObject> {
+    /**
+     * Origin entry.
+     */
+    private final Entry<JsonObject> origin;
+
+    /**
+     * From utf-8 file.
+     *
+     * @param path To json file
+     */
+    public EJsonFile(final String path) {
+        this(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param path To json file
+     * @param charset Of file
+     */
+    public EJsonFile(final String path, final Charset charset) {
+        this.origin = new EJsonParsed(new EFile(path, charset));
+    }
+
+    @Override
+    public JsonObject value() throws EntryException {
+        return this.origin.value();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+
+/**
+ * Eject int[] from provided json array of numbers without boxing.
+ * Fails at numbers that don't fit into int exactly.
+ *
+ * @since 0.5.0
+ */
+public final class EJsonInts implements Entry<int[]> {
+    /**
+     * Source json array.
+     */
+    private final Entry<JsonArray> array;
+
+    /**
+     * Get int[] by it's attribute name.
+     *
+     * @param json Source json
+     * @param attr To lookup
+     */
+    public EJsonInts(final Entry<JsonObject> json, final String attr) {
+        this(new EJsonArr(json, attr));
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param array Source json array
+     */
+    public EJsonInts(final Entry<JsonArray> array) {
+        this.array = array;
+    }
+
+    @Override
+    public int[] value() throws EntryException {
+        final JsonArray source = this.array.value();
+        final int[] values = new int[source.size()];
+        try {
+            for (int idx = 0; idx < values.length; ++idx) {
+                values[idx] = JsonNum.number(source.get(idx), "int").intValueExact();
+            }
+        } catch (final ArithmeticException exception) {
+            throw new EntryException(
+                "Json number couldn't be mapped to int exactly", exception
+            );
+        }
+        return values;
+    }
+}
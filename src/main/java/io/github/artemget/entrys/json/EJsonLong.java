@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.LongEntry;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+/**
+ * Eject long from provided json number without boxing.
+ * Fails at numbers that don't fit into long exactly.
+ *
+ * @since 0.5.0
+ */
+public final class EJsonLong implements LongEntry {
+    /**
+     * Source json number.
+     */
+    private final Entry<JsonNumber> number;
+
+    /**
+     * Get long by it's attribute name.
+     *
+     * @param json Object
+     * @param attr To lookup
+     */
+    public EJsonLong(final JsonObject json, final String attr) {
+        this(() -> json, attr);
+    }
+
+    /**
+     * Get long by it's attribute name.
+     *
+     * @param json Source json
+     * @param attr To lookup
+     */
+    public EJsonLong(final Entry<JsonObject> json, final String attr) {
+        this(new JsonMember(json, attr));
+    }
+
+    /**
+     * Get long from json value,
+     * e.g. found by {@link EJsonPath} or {@link EJsonScan}.
+     *
+     * @param json Source json value
+     */
+    public EJsonLong(final Entry<? extends JsonValue> json) {
+        this.number = new JsonNum(json, "long");
+    }
+
+    @Override
+    public long longValue() throws EntryException {
+        try {
+            return this.number.value().longValueExact();
+        } catch (final ArithmeticException exception) {
+            throw new EntryException(
+                "Json number couldn't be mapped to long exactly", exception
+            );
+        }
+    }
+}
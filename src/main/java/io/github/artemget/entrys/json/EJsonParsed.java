@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.operation.EParsed;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonReaderFactory;
+
+/**
+ * Json object parsed from string, e.g. from env or file.
+ * All entries share one {@link JsonReaderFactory}, so json provider
+ * is looked up once. Parsed objects are immutable and are shared
+ * between all entries with the same content.
+ *
+ * @since 0.5.0
+ */
+public final class EJsonParsed implements Entry<JsonObject> {
+    /**
+     * Shared reader factory.
+     */
+    private static final JsonReaderFactory FACTORY = Json.createReaderFactory(Map.of());
+
+    /**
+     * Parsed objects by content.
+     */
+    private static final Map<String, JsonObject> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Origin entry.
+     */
+    private final Entry<JsonObject> origin;
+
+    /**
+     * Main ctor.
+     *
+     * @param content Json string
+     */
+    public EJsonParsed(final Entry<String> content) {
+        this.origin = new EParsed<>(content, EJsonParsed::parsed, EJsonParsed.CACHE);
+    }
+
+    @Override
+    public JsonObject value() throws EntryException {
+        return this.origin.value();
+    }
+
+    /**
+     * Parses json object.
+     *
+     * @param json String
+     * @return Object
+     * @throws EntryException If json is malformed or is not an object
+     */
+    private static JsonObject parsed(final String json) throws EntryException {
+        try (JsonReader reader = EJsonParsed.FACTORY.createReader(new StringReader(json))) {
+            return reader.readObject();
+        } catch (final JsonException | IllegalStateException exception) {
+            throw new EntryException("Failed to parse json object", exception);
+        }
+    }
+}
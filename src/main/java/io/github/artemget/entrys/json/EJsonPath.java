@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+/**
+ * Eject {@link JsonValue} from provided json by path.
+ * Path is either RFC 6901 pointer, e.g. "/servers/0/host",
+ * or dotted path with array indices, e.g. "servers[0].host".
+ * Path is compiled once into flat array of steps, lookup
+ * walks steps in single loop.
+ *
+ * @since 0.5.0
+ */
+public final class EJsonPath implements Entry<JsonValue> {
+    /**
+     * Source json.
+     */
+    private final Entry<JsonObject> json;
+
+    /**
+     * Compiled path.
+     */
+    private final JsonSteps steps;
+
+    /**
+     * Get {@link JsonValue} by path.
+     *
+     * @param json Object
+     * @param path To lookup
+     */
+    public EJsonPath(final JsonObject json, final String path) {
+        this(() -> json, path);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param json Source json
+     * @param path To lookup
+     */
+    public EJsonPath(final Entry<JsonObject> json, final String path) {
+        this.json = json;
+        this.steps = new JsonSteps(path);
+    }
+
+    @Override
+    public JsonValue value() throws EntryException {
+        JsonValue current = this.json.value();
+        for (int step = 0; step < this.steps.size(); ++step) {
+            current = this.steps.next(current, step);
+            if (current == null) {
+                throw new EntryException(
+                    String.format(
+                        "Json path '%s' is not found at '%s'",
+                        this.steps.path(),
+                        this.steps.name(step)
+                    )
+                );
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import java.io.Reader;
+import java.util.List;
+import javax.json.JsonValue;
+
+/**
+ * Json value of single path extracted from json stream.
+ * Reading stops at the found value, see {@link EJsonScans}.
+ *
+ * @since 0.5.0
+ */
+public final class EJsonScan implements Entry<JsonValue> {
+    /**
+     * Path to extract.
+     */
+    private final String path;
+
+    /**
+     * Origin entry.
+     */
+    private final EJsonScans origin;
+
+    /**
+     * From utf-8 json file.
+     *
+     * @param path To extract
+     * @param file Path to json file
+     */
+    public EJsonScan(final String path, final String file) {
+        this(path, new EJsonScans(List.of(path), file));
+    }
+
+    /**
+     * From json source.
+     *
+     * @param path To extract
+     * @param source Json source, opened on each read and closed after it
+     */
+    public EJsonScan(final String path, final Entry<Reader> source) {
+        this(path, new EJsonScans(List.of(path), source));
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param path To extract
+     * @param origin Scans of single path
+     */
+    private EJsonScan(final String path, final EJsonScans origin) {
+        this.path = path;
+        this.origin = origin;
+    }
+
+    @Override
+    public JsonValue value() throws EntryException {
+        return this.origin.value().get(this.path);
+    }
+}
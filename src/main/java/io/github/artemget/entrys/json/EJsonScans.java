@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParserFactory;
+
+/**
+ * Json values of several paths extracted from json stream in single pass.
+ * Objects and arrays no path points into are skipped without being built,
+ * so heap holds only extracted values, not the whole document.
+ * Paths are RFC 6901 pointers or dotted paths with array indices,
+ * the same as {@link EJsonPath} accepts.
+ *
+ * @since 0.5.0
+ */
+public final class EJsonScans implements Entry<Map<String, JsonValue>> {
+    /**
+     * Shared parser factory.
+     */
+    private static final JsonParserFactory FACTORY = Json.createParserFactory(Map.of());
+
+    /**
+     * Compiled paths.
+     */
+    private final List<JsonSteps> paths;
+
+    /**
+     * Json source, opened on each read.
+     */
+    private final Entry<Reader> source;
+
+    /**
+     * From utf-8 json file.
+     *
+     * @param paths To extract
+     * @param file Path to json file
+     */
+    public EJsonScans(final Collection<String> paths, final String file) {
+        this(
+            paths,
+            () -> {
+                try {
+                    return Files.newBufferedReader(Path.of(file));
+                } catch (final IOException | SecurityException exception) {
+                    throw new EntryException(
+                        String.format("Failed to open json file for path: '%s'", file),
+                        exception
+                    );
+                }
+            }
+        );
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param paths To extract
+     * @param source Json source, opened on each read and closed after it
+     */
+    public EJsonScans(final Collection<String> paths, final Entry<Reader> source) {
+        this.paths = paths.stream().distinct().map(JsonSteps::new).toList();
+        this.source = source;
+    }
+
+    @Override
+    public Map<String, JsonValue> value() throws EntryException {
+        final Map<String, JsonValue> found = new HashMap<>(this.paths.size() * 2);
+        try (
+            Reader reader = this.source.value();
+            JsonParser parser = EJsonScans.FACTORY.createParser(reader)
+        ) {
+            if (parser.hasNext()) {
+                new JsonScan(parser, found, this.paths.size())
+                    .visit(parser.next(), this.paths, 0);
+            }
+        } catch (final IOException | JsonException exception) {
+            throw new EntryException("Failed to scan json", exception);
+        }
+        if (found.size() < this.paths.size()) {
+            throw new EntryException(
+                String.format(
+                    "Failed to find %d of %d json paths: %s",
+                    this.paths.size() - found.size(),
+                    this.paths.size(),
+                    String.join(", ", this.missing(found))
+                )
+            );
+        }
+        return Map.copyOf(found);
+    }
+
+    /**
+     * Paths that were not found.
+     *
+     * @param found Values by paths
+     * @return Quoted paths
+     */
+    private List<String> missing(final Map<String, JsonValue> found) {
+        final List<String> missing = new ArrayList<>(this.paths.size());
+        for (final JsonSteps steps : this.paths) {
+            if (!found.containsKey(steps.path())) {
+                missing.add(String.format("'%s'", steps.path()));
+            }
+        }
+        return missing;
+    }
+}
@@ -28,6 +28,8 @@ import io.github.artemget.entrys.ESafe;
 import io.github.artemget.entrys.Entry;
 import io.github.artemget.entrys.EntryException;
 import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
 import org.cactoos.Scalar;
 
 /**
@@ -66,4 +68,25 @@ public final class EJsonStr extends ESafe<String> {
             () -> String.format("String attribute '%s' is null", attr)
         );
     }
+
+    /**
+     * Get {@link String} from json value,
+     * e.g. found by {@link EJsonPath} or {@link EJsonScan}.
+     * @param json Source json value
+     */
+    public EJsonStr(final Entry<? extends JsonValue> json) {
+        super(
+            () -> {
+                try {
+                    return ((JsonString) json.value()).getString();
+                } catch (final ClassCastException exception) {
+                    throw new EntryException(
+                        "Json value couldn't be mapped to String",
+                        exception
+                    );
+                }
+            },
+            () -> "String json value is null"
+        );
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import javax.json.JsonNumber;
+import javax.json.JsonValue;
+
+/**
+ * Json value that must be a number.
+ *
+ * @since 0.5.0
+ */
+final class JsonNum implements Entry<JsonNumber> {
+    /**
+     * Source json value.
+     */
+    private final Entry<? extends JsonValue> json;
+
+    /**
+     * Name of expected type for errors.
+     */
+    private final String type;
+
+    /**
+     * Ctor.
+     *
+     * @param json Source json value
+     * @param type Name of expected type for errors
+     */
+    JsonNum(final Entry<? extends JsonValue> json, final String type) {
+        this.json = json;
+        this.type = type;
+    }
+
+    @Override
+    public JsonNumber value() throws EntryException {
+        return JsonNum.number(this.json.value(), this.type);
+    }
+
+    /**
+     * Casts json value to number.
+     *
+     * @param value Json value
+     * @param type Name of expected type for errors
+     * @return Number
+     * @throws EntryException If value is not a number
+     */
+    static JsonNumber number(final JsonValue value, final String type)
+        throws EntryException {
+        if (!(value instanceof JsonNumber)) {
+            throw new EntryException(
+                String.format("Json value '%s' couldn't be mapped to %s", value, type)
+            );
+        }
+        return (JsonNumber) value;
+    }
+}
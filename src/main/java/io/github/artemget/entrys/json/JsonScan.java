@@ -0,0 +1,219 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+
+/**
+ * Single pass over json parser events.
+ * Descends only into members and elements selected by some path,
+ * skips other objects and arrays without building them
+ * and materializes only found values.
+ * Stops as soon as all paths are found.
+ *
+ * @since 0.5.0
+ */
+final class JsonScan {
+    /**
+     * Json parser.
+     */
+    private final JsonParser parser;
+
+    /**
+     * Found values by paths.
+     */
+    private final Map<String, JsonValue> found;
+
+    /**
+     * Count of paths to find.
+     */
+    private final int total;
+
+    /**
+     * Ctor.
+     *
+     * @param parser Json parser
+     * @param found Found values by paths
+     * @param total Count of paths to find
+     */
+    JsonScan(final JsonParser parser, final Map<String, JsonValue> found, final int total) {
+        this.parser = parser;
+        this.found = found;
+        this.total = total;
+    }
+
+    /**
+     * Visits value started by event.
+     *
+     * @param event Current event
+     * @param candidates Paths selecting current value
+     * @param depth Of current value
+     */
+    void visit(
+        final JsonParser.Event event, final List<JsonSteps> candidates, final int depth
+    ) {
+        if (candidates.stream().anyMatch(steps -> steps.size() == depth)) {
+            this.materialize(candidates, depth);
+        } else if (event == JsonParser.Event.START_OBJECT) {
+            this.members(candidates, depth);
+        } else if (event == JsonParser.Event.START_ARRAY) {
+            this.elements(candidates, depth);
+        }
+    }
+
+    /**
+     * Reads current value and resolves all candidates from it.
+     *
+     * @param candidates Paths selecting current value
+     * @param depth Of current value
+     */
+    private void materialize(final List<JsonSteps> candidates, final int depth) {
+        final JsonValue value = this.parser.getValue();
+        for (final JsonSteps steps : candidates) {
+            final JsonValue walked = steps.walked(value, depth);
+            if (walked != null) {
+                this.found.put(steps.path(), walked);
+            }
+        }
+    }
+
+    /**
+     * Visits members of object.
+     *
+     * @param candidates Paths selecting object
+     * @param depth Of object
+     */
+    private void members(final List<JsonSteps> candidates, final int depth) {
+        while (this.found.size() < this.total) {
+            if (this.parser.next() == JsonParser.Event.END_OBJECT) {
+                break;
+            }
+            final String member = this.parser.getString();
+            List<JsonSteps> matched = List.of();
+            for (final JsonSteps steps : candidates) {
+                if (steps.selects(depth, member)) {
+                    matched = JsonScan.appended(matched, steps);
+                }
+            }
+            this.step(this.parser.next(), matched, depth);
+        }
+    }
+
+    /**
+     * Visits elements of array.
+     *
+     * @param candidates Paths selecting array
+     * @param depth Of array
+     */
+    private void elements(final List<JsonSteps> candidates, final int depth) {
+        int index = 0;
+        while (this.found.size() < this.total) {
+            final JsonParser.Event event = this.parser.next();
+            if (event == JsonParser.Event.END_ARRAY) {
+                break;
+            }
+            List<JsonSteps> matched = List.of();
+            for (final JsonSteps steps : candidates) {
+                if (steps.selects(depth, index)) {
+                    matched = JsonScan.appended(matched, steps);
+                }
+            }
+            this.step(event, matched, depth);
+            index += 1;
+        }
+    }
+
+    /**
+     * Visits child value or skips it if no path selects it.
+     *
+     * @param event Starting child value
+     * @param matched Paths selecting child value
+     * @param depth Of parent
+     */
+    private void step(
+        final JsonParser.Event event, final List<JsonSteps> matched, final int depth
+    ) {
+        if (matched.isEmpty()) {
+            this.skip(event);
+        } else {
+            this.visit(event, matched, depth + 1);
+        }
+    }
+
+    /**
+     * Skips value started by event without building it.
+     * Counts nesting over parser events instead of calling
+     * {@link JsonParser#skipObject()}, which never returns
+     * at truncated json in glassfish implementation.
+     *
+     * @param event Starting value
+     */
+    private void skip(final JsonParser.Event event) {
+        int nesting = JsonScan.nesting(event);
+        while (nesting > 0) {
+            nesting += JsonScan.nesting(this.parser.next());
+        }
+    }
+
+    /**
+     * Nesting change made by event.
+     *
+     * @param event Parser event
+     * @return One if event starts object or array, minus one if ends, zero otherwise
+     */
+    private static int nesting(final JsonParser.Event event) {
+        final int nesting;
+        if (event == JsonParser.Event.START_OBJECT || event == JsonParser.Event.START_ARRAY) {
+            nesting = 1;
+        } else if (event == JsonParser.Event.END_OBJECT || event == JsonParser.Event.END_ARRAY) {
+            nesting = -1;
+        } else {
+            nesting = 0;
+        }
+        return nesting;
+    }
+
+    /**
+     * Appends path to list, allocating list on first path.
+     *
+     * @param list Of paths
+     * @param steps Path
+     * @return List
+     */
+    private static List<JsonSteps> appended(final List<JsonSteps> list, final JsonSteps steps) {
+        final List<JsonSteps> appended;
+        if (list.isEmpty()) {
+            appended = new ArrayList<>(2);
+        } else {
+            appended = list;
+        }
+        appended.add(steps);
+        return appended;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+/**
+ * Json path compiled into flat arrays of member names and array indices.
+ * Path is either RFC 6901 pointer or dotted path with array indices.
+ *
+ * @since 0.5.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class JsonSteps {
+    /**
+     * Path as passed.
+     */
+    private final String source;
+
+    /**
+     * Member names of steps.
+     */
+    private final String[] names;
+
+    /**
+     * Array indices of steps, -1 if step is not an index.
+     */
+    private final int[] indices;
+
+    /**
+     * Ctor.
+     *
+     * @param path Pointer or dotted path
+     */
+    JsonSteps(final String path) {
+        this(path, JsonSteps.compiled(path));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param path Pointer or dotted path
+     * @param names Member names of steps
+     */
+    private JsonSteps(final String path, final String... names) {
+        this.source = path;
+        this.names = names;
+        this.indices = JsonSteps.indexed(names);
+    }
+
+    /**
+     * Path as passed.
+     *
+     * @return Path
+     */
+    String path() {
+        return this.source;
+    }
+
+    /**
+     * Count of steps.
+     *
+     * @return Count
+     */
+    int size() {
+        return this.names.length;
+    }
+
+    /**
+     * Member name of step.
+     *
+     * @param step Number
+     * @return Name
+     */
+    String name(final int step) {
+        return this.names[step];
+    }
+
+    /**
+     * Checks that step selects object member.
+     *
+     * @param step Number
+     * @param member Name
+     * @return True if selects
+     */
+    boolean selects(final int step, final String member) {
+        return this.names[step].equals(member);
+    }
+
+    /**
+     * Checks that step selects array element.
+     *
+     * @param step Number
+     * @param index Of element
+     * @return True if selects
+     */
+    boolean selects(final int step, final int index) {
+        return this.indices[step] == index;
+    }
+
+    /**
+     * Walks remaining steps.
+     *
+     * @param from Json value
+     * @param step Number of first step
+     * @return Value or null if absent
+     */
+    JsonValue walked(final JsonValue from, final int step) {
+        JsonValue current = from;
+        for (int idx = step; current != null && idx < this.names.length; ++idx) {
+            current = this.next(current, idx);
+        }
+        return current;
+    }
+
+    /**
+     * Makes one step.
+     *
+     * @param current Json value
+     * @param step Number
+     * @return Next value or null if absent
+     */
+    JsonValue next(final JsonValue current, final int step) {
+        final JsonValue next;
+        if (current instanceof JsonObject) {
+            next = ((JsonObject) current).get(this.names[step]);
+        } else if (current instanceof JsonArray
+            && this.indices[step] >= 0
+            && this.indices[step] < ((JsonArray) current).size()) {
+            next = ((JsonArray) current).get(this.indices[step]);
+        } else {
+            next = null;
+        }
+        return next;
+    }
+
+    /**
+     * Compiles path to member names.
+     *
+     * @param path Pointer or dotted path
+     * @return Names
+     */
+    private static String[] compiled(final String path) {
+        final String[] names;
+        if (path.isEmpty()) {
+            names = new String[0];
+        } else if (path.charAt(0) == '/') {
+            names = JsonSteps.pointer(path);
+        } else {
+            names = JsonSteps.dotted(path);
+        }
+        return names;
+    }
+
+    /**
+     * Splits RFC 6901 pointer.
+     *
+     * @param pointer Starting with slash
+     * @return Names
+     */
+    private static String[] pointer(final String pointer) {
+        final String[] names = pointer.substring(1).split("/", -1);
+        for (int idx = 0; idx < names.length; ++idx) {
+            names[idx] = names[idx].replace("~1", "/").replace("~0", "~");
+        }
+        return names;
+    }
+
+    /**
+     * Splits dotted path, brackets become separate steps.
+     *
+     * @param dotted Path
+     * @return Names
+     */
+    private static String[] dotted(final String dotted) {
+        final List<String> names = new ArrayList<>(8);
+        for (final String part : dotted.split("\\.", -1)) {
+            final int bracket = part.indexOf('[');
+            if (bracket < 0 || !part.endsWith("]")) {
+                names.add(part);
+            } else {
+                if (bracket > 0) {
+                    names.add(part.substring(0, bracket));
+                }
+                for (final String index : part.substring(bracket + 1, part.length() - 1)
+                    .split("\\]\\[", -1)) {
+                    names.add(index);
+                }
+            }
+        }
+        return names.toArray(new String[0]);
+    }
+
+    /**
+     * Parses array indices of names.
+     *
+     * @param names Of steps
+     * @return Indices, -1 for names that are not indices
+     */
+    private static int[] indexed(final String... names) {
+        final int[] indices = new int[names.length];
+        for (int idx = 0; idx < names.length; ++idx) {
+            indices[idx] = JsonSteps.index(names[idx]);
+        }
+        return indices;
+    }
+
+    /**
+     * Parses array index as RFC 6901 defines it: no sign and no leading zeros.
+     *
+     * @param name Of step
+     * @return Index or -1
+     */
+    private static int index(final String name) {
+        int index = -1;
+        if (JsonSteps.digits(name) && (name.length() == 1 || name.charAt(0) != '0')) {
+            index = Integer.parseInt(name);
+        }
+        return index;
+    }
+
+    /**
+     * Checks that name consists of ascii digits and fits into int.
+     *
+     * @param name Of step
+     * @return True if digits
+     */
+    private static boolean digits(final String name) {
+        return !name.isEmpty() && name.length() < 10
+            && name.chars().allMatch(chr -> chr >= '0' && chr <= '9');
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.logic;
+
+import io.github.artemget.entrys.BooleanEntry;
+import io.github.artemget.entrys.ESafe;
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+
+/**
+ * Boolean entry.
+ * Accepts only 'true' or 'false' ignoring case and parses value
+ * straight from origin's chars without boxing.
+ * @since 0.5.0
+ */
+public final class EBool implements BooleanEntry {
+    /**
+     * Origin entry.
+     */
+    private final Entry<? extends CharSequence> origin;
+
+    /**
+     * Main Ctor.
+     * @param origin Property
+     */
+    public EBool(final Entry<? extends CharSequence> origin) {
+        this.origin = new ESafe<>(origin);
+    }
+
+    @Override
+    public boolean booleanValue() throws EntryException {
+        final CharSequence value = this.origin.value();
+        final boolean parsed;
+        if (EBool.same(value, "true")) {
+            parsed = true;
+        } else if (EBool.same(value, "false")) {
+            parsed = false;
+        } else {
+            throw new EntryException(
+                String.format("Wrong entry type for boolean entry: '%s'", value)
+            );
+        }
+        return parsed;
+    }
+
+    /**
+     * Compares chars with lower case word ignoring case.
+     *
+     * @param chars To compare
+     * @param word Lower case word
+     * @return True if equal
+     */
+    private static boolean same(final CharSequence chars, final String word) {
+        boolean same = chars.length() == word.length();
+        for (int pos = 0; same && pos < word.length(); ++pos) {
+            same = Character.toLowerCase(chars.charAt(pos)) == word.charAt(pos);
+        }
+        return same;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.numeric;
+
+import io.github.artemget.entrys.DoubleEntry;
+import io.github.artemget.entrys.ESafe;
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+
+/**
+ * Double entry.
+ * Parses value without boxing.
+ * @since 0.5.0
+ */
+public final class EDouble implements DoubleEntry {
+    /**
+     * Origin entry.
+     */
+    private final Entry<? extends CharSequence> origin;
+
+    /**
+     * Main Ctor.
+     * @param origin Property
+     */
+    public EDouble(final Entry<? extends CharSequence> origin) {
+        this.origin = new ESafe<>(origin);
+    }
+
+    @Override
+    public double doubleValue() throws EntryException {
+        try {
+            return Double.parseDouble(this.origin.value().toString());
+        } catch (final NumberFormatException exception) {
+            throw new EntryException("Wrong entry type for double entry", exception);
+        }
+    }
+}
@@ -27,29 +27,32 @@ package io.github.artemget.entrys.numeric;
 import io.github.artemget.entrys.ESafe;
 import io.github.artemget.entrys.Entry;
 import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.IntEntry;
 
 /**
  * Integer entry.
+ * Parses value straight from origin's chars without boxing.
  * @since 0.2.0
  */
-public final class EInt implements Entry<Integer> {
+public final class EInt implements IntEntry {
     /**
      * Origin entry.
      */
-    private final Entry<String> origin;
+    private final Entry<? extends CharSequence> origin;
 
     /**
      * Main Ctor.
      * @param origin Property
      */
-    public EInt(final Entry<String> origin) {
+    public EInt(final Entry<? extends CharSequence> origin) {
         this.origin = new ESafe<>(origin);
     }
 
     @Override
-    public Integer value() throws EntryException {
+    public int intValue() throws EntryException {
+        final CharSequence value = this.origin.value();
         try {
-            return Integer.valueOf(this.origin.value());
+            return Integer.parseInt(value, 0, value.length(), 10);
         } catch (final NumberFormatException exception) {
             throw new EntryException("Wrong entry type for int entry", exception);
         }
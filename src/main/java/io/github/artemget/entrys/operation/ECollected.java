@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.operation;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import java.util.Spliterator;
+import java.util.stream.Collector;
+import java.util.stream.StreamSupport;
+
+/**
+ * Sequence collected straight into typed result.
+ * Sequences of at least threshold elements are collected by parallel
+ * stream on common fork join pool, shorter ones sequentially.
+ *
+ * @param <T> Element type
+ * @param <R> Result type
+ * @since 0.5.0
+ */
+public final class ECollected<T, R> implements Entry<R> {
+    /**
+     * Default size of sequence to collect in parallel.
+     */
+    private static final int THRESHOLD = 8192;
+
+    /**
+     * Sequence entry.
+     */
+    private final Entry<? extends Spliterator<T>> sequence;
+
+    /**
+     * Collector of elements.
+     */
+    private final Collector<? super T, ?, R> collector;
+
+    /**
+     * Size of sequence to collect in parallel.
+     */
+    private final long threshold;
+
+    /**
+     * Collects sequences of at least 8192 elements in parallel.
+     *
+     * @param sequence Entry
+     * @param collector Of elements
+     */
+    public ECollected(
+        final Entry<? extends Spliterator<T>> sequence,
+        final Collector<? super T, ?, R> collector
+    ) {
+        this(sequence, collector, ECollected.THRESHOLD);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param sequence Entry
+     * @param collector Of elements
+     * @param threshold Size of sequence to collect in parallel
+     */
+    public ECollected(
+        final Entry<? extends Spliterator<T>> sequence,
+        final Collector<? super T, ?, R> collector,
+        final long threshold
+    ) {
+        this.sequence = sequence;
+        this.collector = collector;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public R value() throws EntryException {
+        final Spliterator<T> elements = this.sequence.value();
+        return StreamSupport.stream(elements, elements.estimateSize() >= this.threshold)
+            .collect(this.collector);
+    }
+}
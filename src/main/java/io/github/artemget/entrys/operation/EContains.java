@@ -30,6 +30,7 @@ import io.github.artemget.entrys.EntryException;
 
 /**
  * Returns either entry is empty or not.
+ * Probes entry, so missing value costs no exception.
  *
  * @since 0.4.0
  */
@@ -50,12 +51,6 @@ public final class EContains implements Entry<Boolean> {
 
     @Override
     public Boolean value() throws EntryException {
-        boolean contains = true;
-        try {
-            this.entry.value();
-        } catch (final EntryException exception) {
-            contains = false;
-        }
-        return contains;
+        return this.entry.probe().isPresent();
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.operation;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * First present entry among candidates.
+ * Each candidate is probed at most once, in order.
+ *
+ * @param <T> Type
+ * @since 0.5.0
+ */
+public final class EFirst<T> implements Entry<T> {
+    /**
+     * Candidates.
+     */
+    private final List<Entry<T>> candidates;
+
+    /**
+     * Ctor.
+     *
+     * @param candidates In order of priority
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public EFirst(final Entry<T>... candidates) {
+        this(List.of(candidates));
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param candidates In order of priority
+     */
+    public EFirst(final List<Entry<T>> candidates) {
+        this.candidates = candidates;
+    }
+
+    @Override
+    public T value() throws EntryException {
+        return this.probe().orElseThrow(
+            () -> new EntryException(
+                String.format(
+                    "None of %d candidate entries is present",
+                    this.candidates.size()
+                )
+            )
+        );
+    }
+
+    @Override
+    public Optional<T> probe() {
+        Optional<T> probed = Optional.empty();
+        for (int index = 0; probed.isEmpty() && index < this.candidates.size(); ++index) {
+            probed = this.candidates.get(index).probe();
+        }
+        return probed;
+    }
+}
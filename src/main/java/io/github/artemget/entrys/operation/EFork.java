@@ -26,6 +26,7 @@ package io.github.artemget.entrys.operation;
 
 import io.github.artemget.entrys.Entry;
 import io.github.artemget.entrys.EntryException;
+import java.util.Optional;
 
 /**
  * Fork between origin and spare entries.
@@ -72,4 +73,19 @@ public final class EFork<T> implements Entry<T> {
         }
         return value;
     }
+
+    @Override
+    public Optional<T> probe() {
+        Optional<T> probed;
+        try {
+            if (this.condition.value()) {
+                probed = this.origin.probe();
+            } else {
+                probed = this.spare.probe();
+            }
+        } catch (final EntryException exception) {
+            probed = Optional.empty();
+        }
+        return probed;
+    }
 }
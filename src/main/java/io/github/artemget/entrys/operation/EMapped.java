@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.operation;
+
+import io.github.artemget.entrys.ESafe;
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.func.EFunc;
+
+/**
+ * Entry mapped by function, e.g. batch of values mapped to a record.
+ *
+ * @param <X> Type of origin's value
+ * @param <Y> Type of mapped value
+ * @since 0.5.0
+ */
+public final class EMapped<X, Y> implements Entry<Y> {
+    /**
+     * Origin entry.
+     */
+    private final Entry<X> origin;
+
+    /**
+     * Mapper.
+     */
+    private final EFunc<X, Y> mapper;
+
+    /**
+     * Main ctor.
+     *
+     * @param origin Entry
+     * @param mapper Of origin's value
+     */
+    public EMapped(final Entry<X> origin, final EFunc<X, Y> mapper) {
+        this.origin = origin;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Y value() throws EntryException {
+        final X value = this.origin.value();
+        return new ESafe<>(
+            () -> this.mapper.apply(value),
+            () -> String.format("Mapped value of '%s' is null", value)
+        ).value();
+    }
+}
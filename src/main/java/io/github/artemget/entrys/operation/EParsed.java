@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.operation;
+
+import io.github.artemget.entrys.ESafe;
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.func.EFunc;
+import java.util.Map;
+
+/**
+ * Parsed content entry. Parses content once and shares
+ * the result through provided cache keyed by content itself,
+ * so any change of content invalidates parsed value.
+ * Cache is cleared when it reaches it's limit.
+ *
+ * @param <T> Parsed type
+ * @since 0.5.0
+ */
+public final class EParsed<T> implements Entry<T> {
+    /**
+     * Default cache limit.
+     */
+    private static final int LIMIT = 64;
+
+    /**
+     * Content entry.
+     */
+    private final Entry<String> content;
+
+    /**
+     * Content parser.
+     */
+    private final EFunc<String, T> parser;
+
+    /**
+     * Parsed values by content.
+     */
+    private final Map<String, T> cache;
+
+    /**
+     * Max amount of cached values.
+     */
+    private final int limit;
+
+    /**
+     * Ctor with default cache limit.
+     *
+     * @param content Entry
+     * @param parser Of content
+     * @param cache Shared between entries, must be thread safe
+     */
+    public EParsed(
+        final Entry<String> content,
+        final EFunc<String, T> parser,
+        final Map<String, T> cache
+    ) {
+        this(content, parser, cache, EParsed.LIMIT);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param content Entry
+     * @param parser Of content
+     * @param cache Shared between entries, must be thread safe
+     * @param limit Max amount of cached values
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public EParsed(
+        final Entry<String> content,
+        final EFunc<String, T> parser,
+        final Map<String, T> cache,
+        final int limit
+    ) {
+        this.content = new ESafe<>(content);
+        this.parser = parser;
+        this.cache = cache;
+        this.limit = limit;
+    }
+
+    @Override
+    public T value() throws EntryException {
+        final String key = this.content.value();
+        T parsed = this.cache.get(key);
+        if (parsed == null) {
+            parsed = new ESafe<>(
+                () -> this.parser.apply(key),
+                () -> "Parsed content is null"
+            ).value();
+            if (this.cache.size() >= this.limit) {
+                this.cache.clear();
+            }
+            this.cache.put(key, parsed);
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.operation;
+
+import io.github.artemget.entrys.ESafe;
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import java.util.Spliterator;
+
+/**
+ * Pieces split by literal delimiter as sized spliterator.
+ * Finds pieces bounds once and copies each piece only when it is
+ * consumed, so large sequences, e.g. yaml sequences read by
+ * {@link io.github.artemget.entrys.file.EVal}, may be converted
+ * in parallel without intermediate list.
+ * Collect pieces with {@link ECollected}.
+ *
+ * @since 0.5.0
+ */
+public final class EPieces implements Entry<Spliterator<String>> {
+    /**
+     * Origin chars entry.
+     */
+    private final Entry<? extends CharSequence> origin;
+
+    /**
+     * Split delimiter.
+     */
+    private final String delimiter;
+
+    /**
+     * Creates pieces entry with default ; delimiter.
+     *
+     * @param origin Entry
+     */
+    public EPieces(final Entry<? extends CharSequence> origin) {
+        this(origin, ";");
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param origin Entry
+     * @param delimiter For splitting, not empty
+     */
+    public EPieces(final Entry<? extends CharSequence> origin, final String delimiter) {
+        this.origin = new ESafe<>(origin);
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    public Spliterator<String> value() throws EntryException {
+        if (this.delimiter.isEmpty()) {
+            throw new EntryException("Empty delimiter for pieces entry");
+        }
+        final Pieces pieces = new Pieces(this.origin.value(), this.delimiter);
+        return new Indexed<>(pieces::piece, pieces.size());
+    }
+}
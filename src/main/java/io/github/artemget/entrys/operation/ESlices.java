@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.operation;
+
+import io.github.artemget.entrys.ESafe;
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Lazy split entry.
+ * Splits by literal delimiter like {@link ESplit}, but returns
+ * views over origin's chars instead of copies of pieces.
+ * Views reflect origin's chars, so origin should be immutable.
+ * @since 0.5.0
+ */
+public final class ESlices implements Entry<List<CharSequence>> {
+    /**
+     * Origin chars entry.
+     */
+    private final Entry<? extends CharSequence> origin;
+
+    /**
+     * Split delimiter.
+     */
+    private final String delimiter;
+
+    /**
+     * Creates slices entry with default ; delimiter.
+     * @param origin Entry
+     */
+    public ESlices(final Entry<? extends CharSequence> origin) {
+        this(origin, ";");
+    }
+
+    /**
+     * Main ctor.
+     * @param origin Entry
+     * @param delimiter For splitting, not empty
+     */
+    public ESlices(final Entry<? extends CharSequence> origin, final String delimiter) {
+        this.origin = new ESafe<>(origin);
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    public List<CharSequence> value() throws EntryException {
+        if (this.delimiter.isEmpty()) {
+            throw new EntryException("Empty delimiter for slices entry");
+        }
+        return new Slices(new Pieces(this.origin.value(), this.delimiter));
+    }
+
+    /**
+     * List of views over pieces.
+     *
+     * @since 0.5.0
+     */
+    private static final class Slices extends AbstractList<CharSequence>
+        implements RandomAccess {
+        /**
+         * Pieces bounds.
+         */
+        private final Pieces pieces;
+
+        /**
+         * Main ctor.
+         *
+         * @param pieces Bounds
+         */
+        Slices(final Pieces pieces) {
+            super();
+            this.pieces = pieces;
+        }
+
+        @Override
+        public CharSequence get(final int index) {
+            if (index < 0 || index >= this.pieces.size()) {
+                throw new IndexOutOfBoundsException(
+                    String.format("Index %d out of slices size %d", index, this.size())
+                );
+            }
+            return this.pieces.slice(index);
+        }
+
+        @Override
+        public int size() {
+            return this.pieces.size();
+        }
+    }
+}
@@ -27,12 +27,16 @@ package io.github.artemget.entrys.operation;
 import io.github.artemget.entrys.ESafe;
 import io.github.artemget.entrys.Entry;
 import io.github.artemget.entrys.EntryException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 /**
  * Split entry.
+ * Splits by literal delimiter without regex and keeps the last result,
+ * so the same origin value is split only once.
  * @since 0.4.0
  */
 public final class ESplit implements Entry<List<String>> {
@@ -46,6 +50,11 @@ public final class ESplit implements Entry<List<String>> {
      */
     private final String delimiter;
 
+    /**
+     * Last split value.
+     */
+    private volatile Split last;
+
     /**
      * Creates split entry with default ; delimiter.
      * @param origin Entry
@@ -62,22 +71,91 @@ public final class ESplit implements Entry<List<String>> {
     public ESplit(final Entry<String> origin, final String delimiter) {
         this.origin = new ESafe<>(origin);
         this.delimiter = delimiter;
+        this.last = new Split("", List.of(""));
     }
 
     @Override
     public List<String> value() throws EntryException {
         final String value = this.origin.value();
-        try {
-            return List.of(value.split(Pattern.quote(this.delimiter)));
-        } catch (final PatternSyntaxException exception) {
-            throw new EntryException(
-                String.format(
-                    "Wrong pattern delimiter: %s for entry value: %s",
-                    this.delimiter,
-                    value
-                ),
-                exception
-            );
+        final Split split = this.last;
+        final List<String> pieces;
+        if (split.same(value)) {
+            pieces = split.pieces;
+        } else {
+            pieces = this.split(value);
+            this.last = new Split(value, pieces);
+        }
+        return pieces;
+    }
+
+    /**
+     * Splits value.
+     *
+     * @param value To split
+     * @return Pieces
+     * @throws EntryException If failed to split
+     */
+    private List<String> split(final String value) throws EntryException {
+        final List<String> pieces;
+        if (this.delimiter.isEmpty()) {
+            try {
+                pieces = List.of(value.split(Pattern.quote(this.delimiter)));
+            } catch (final PatternSyntaxException exception) {
+                throw new EntryException(
+                    String.format(
+                        "Wrong pattern delimiter: %s for entry value: %s",
+                        this.delimiter,
+                        value
+                    ),
+                    exception
+                );
+            }
+        } else {
+            final Pieces found = new Pieces(value, this.delimiter);
+            final String[] copies = new String[found.size()];
+            for (int index = 0; index < copies.length; ++index) {
+                copies[index] = found.piece(index);
+            }
+            pieces = Collections.unmodifiableList(Arrays.asList(copies));
+        }
+        return pieces;
+    }
+
+    /**
+     * Value with it's pieces.
+     *
+     * @since 0.5.0
+     */
+    private static final class Split {
+        /**
+         * Split value.
+         */
+        private final String value;
+
+        /**
+         * Pieces of value.
+         */
+        private final List<String> pieces;
+
+        /**
+         * Main ctor.
+         *
+         * @param value Split
+         * @param pieces Of value
+         */
+        Split(final String value, final List<String> pieces) {
+            this.value = value;
+            this.pieces = pieces;
+        }
+
+        /**
+         * Checks whether other value is the same as split one.
+         *
+         * @param other Value
+         * @return True if the same
+         */
+        boolean same(final String other) {
+            return this.value == other || this.value.equals(other);
         }
     }
 }
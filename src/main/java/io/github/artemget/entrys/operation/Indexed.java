@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.operation;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Sized spliterator over elements accessed by index.
+ * Splits range of indices in halves, so parallel streams divide
+ * work evenly without buffering elements. Elements are
+ * got lazily, each one by the thread that processes it.
+ * Elements may be null, as they are produced by arbitrary function.
+ *
+ * @param <T> Element type
+ * @since 0.5.0
+ */
+public final class Indexed<T> implements Spliterator<T> {
+    /**
+     * Sizes of spliterator and of its splits are known.
+     */
+    private static final int SIZED = Spliterator.SIZED | Spliterator.SUBSIZED;
+
+    /**
+     * Element by index.
+     */
+    private final IntFunction<? extends T> element;
+
+    /**
+     * End of range, exclusive.
+     */
+    private final int end;
+
+    /**
+     * Next index.
+     */
+    private int next;
+
+    /**
+     * Over all elements.
+     *
+     * @param element By index
+     * @param size Count of elements
+     */
+    public Indexed(final IntFunction<? extends T> element, final int size) {
+        this(element, 0, size);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param element By index
+     * @param start Of range, inclusive
+     * @param end Of range, exclusive
+     */
+    private Indexed(final IntFunction<? extends T> element, final int start, final int end) {
+        this.element = element;
+        this.next = start;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        final boolean advanced = this.next < this.end;
+        if (advanced) {
+            action.accept(this.element.apply(this.next));
+            this.next += 1;
+        }
+        return advanced;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        final int start = this.next;
+        this.next = this.end;
+        for (int idx = start; idx < this.end; ++idx) {
+            action.accept(this.element.apply(idx));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final int middle = (this.next + this.end) >>> 1;
+        Spliterator<T> prefix = null;
+        if (middle > this.next) {
+            prefix = new Indexed<>(this.element, this.next, middle);
+            this.next = middle;
+        }
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.end - this.next;
+    }
+
+    @Override
+    public int characteristics() {
+        return Indexed.SIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.operation;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Bounds of chars pieces split by literal delimiter.
+ * Follows {@link String#split(String)} rules: trailing empty
+ * pieces are removed and chars without delimiter are the only piece.
+ *
+ * @since 0.5.0
+ */
+final class Pieces {
+    /**
+     * Split chars.
+     */
+    private final CharSequence chars;
+
+    /**
+     * Start and end of each piece one after another.
+     */
+    private final int[] bounds;
+
+    /**
+     * Main ctor.
+     *
+     * @param chars To split
+     * @param delimiter Literal, not empty
+     */
+    Pieces(final CharSequence chars, final String delimiter) {
+        this.chars = chars;
+        this.bounds = Pieces.split(chars, delimiter);
+    }
+
+    /**
+     * Amount of pieces.
+     *
+     * @return Size
+     */
+    int size() {
+        return this.bounds.length / 2;
+    }
+
+    /**
+     * Copy of piece.
+     *
+     * @param index Of piece
+     * @return String
+     */
+    String piece(final int index) {
+        return this.chars.subSequence(
+            this.bounds[2 * index], this.bounds[2 * index + 1]
+        ).toString();
+    }
+
+    /**
+     * View of piece without copying chars.
+     *
+     * @param index Of piece
+     * @return Chars view
+     */
+    CharSequence slice(final int index) {
+        return CharBuffer.wrap(
+            this.chars, this.bounds[2 * index], this.bounds[2 * index + 1]
+        );
+    }
+
+    /**
+     * Finds bounds of pieces.
+     *
+     * @param chars To split
+     * @param delimiter Literal
+     * @return Bounds
+     */
+    private static int[] split(final CharSequence chars, final String delimiter) {
+        int[] bounds = new int[16];
+        int size = 0;
+        int start = 0;
+        int found = Pieces.index(chars, delimiter, start);
+        while (found >= 0) {
+            if (size + 2 > bounds.length) {
+                bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            }
+            bounds[size] = start;
+            bounds[size + 1] = found;
+            size += 2;
+            start = found + delimiter.length();
+            found = Pieces.index(chars, delimiter, start);
+        }
+        if (size + 2 > bounds.length) {
+            bounds = Arrays.copyOf(bounds, size + 2);
+        }
+        bounds[size] = start;
+        bounds[size + 1] = chars.length();
+        size += 2;
+        if (size > 2) {
+            while (size > 0 && bounds[size - 2] == bounds[size - 1]) {
+                size -= 2;
+            }
+        }
+        return Arrays.copyOf(bounds, size);
+    }
+
+    /**
+     * Index of delimiter in chars.
+     *
+     * @param chars To search in
+     * @param delimiter To search
+     * @param from Start position
+     * @return Index or -1 if absent
+     */
+    private static int index(
+        final CharSequence chars,
+        final String delimiter,
+        final int from
+    ) {
+        final int found;
+        if (chars instanceof String) {
+            found = ((String) chars).indexOf(delimiter, from);
+        } else {
+            found = Pieces.scan(chars, delimiter, from);
+        }
+        return found;
+    }
+
+    /**
+     * Naive search of delimiter in chars.
+     *
+     * @param chars To search in
+     * @param delimiter To search
+     * @param from Start position
+     * @return Index or -1 if absent
+     */
+    private static int scan(
+        final CharSequence chars,
+        final String delimiter,
+        final int from
+    ) {
+        int found = -1;
+        final int last = chars.length() - delimiter.length();
+        for (int pos = from; found < 0 && pos <= last; ++pos) {
+            boolean same = true;
+            for (int idx = 0; same && idx < delimiter.length(); ++idx) {
+                same = chars.charAt(pos + idx) == delimiter.charAt(idx);
+            }
+            if (same) {
+                found = pos;
+            }
+        }
+        return found;
+    }
+}
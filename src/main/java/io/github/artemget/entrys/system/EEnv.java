@@ -42,7 +42,7 @@ public final class EEnv extends ESafe<String> {
     }
 
     /**
-     * Main ctor.
+     * Ctor.
      * @param name Of environment entry
      */
     public EEnv(final Entry<String> name) {
@@ -51,4 +51,16 @@ public final class EEnv extends ESafe<String> {
             () -> String.format("Empty environment entry for name %s", name)
         );
     }
+
+    /**
+     * Environment entry read from snapshot instead of live environment.
+     * @param name Of environment entry
+     * @param snapshot Of environment, e.g. {@link Snapshot#ENV}
+     */
+    public EEnv(final String name, final Snapshot snapshot) {
+        super(
+            () -> snapshot.value(name),
+            () -> String.format("Empty environment entry for name %s", name)
+        );
+    }
 }
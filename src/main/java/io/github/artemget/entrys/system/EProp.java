@@ -42,4 +42,16 @@ public final class EProp extends ESafe<String> {
             () -> String.format("Empty property entry for name %s", name)
         );
     }
+
+    /**
+     * Ctor reading from snapshot.
+     * @param name Of property entry
+     * @param snapshot Of properties, e.g. {@link Snapshot#PROPS}
+     */
+    public EProp(final String name, final Snapshot snapshot) {
+        super(
+            () -> snapshot.value(name),
+            () -> String.format("Empty property entry for name %s", name)
+        );
+    }
 }
@@ -0,0 +1,222 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.system;
+
+import io.github.artemget.entrys.ESafe;
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.EntryExceptionUnchecked;
+import io.github.artemget.entrys.func.EFunc;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Snapshot of string variables, e.g. environment or system properties.
+ * Variables are copied once into immutable open-addressed table, so
+ * reads take no locks. Call {@link #refresh()} to copy them again.
+ * Can be used as placeholder's values source of
+ * {@link io.github.artemget.entrys.file.ETemplate}.
+ *
+ * @since 0.5.0
+ */
+public final class Snapshot implements EFunc<String, Entry<String>> {
+    /**
+     * Snapshot of environment variables.
+     */
+    public static final Snapshot ENV = new Snapshot(System::getenv);
+
+    /**
+     * Snapshot of system properties.
+     */
+    public static final Snapshot PROPS = new Snapshot(
+        () -> Snapshot.copied(System.getProperties())
+    );
+
+    /**
+     * Variables source.
+     */
+    private final Entry<Map<String, String>> origin;
+
+    /**
+     * Current table.
+     */
+    private volatile Table table;
+
+    /**
+     * Main ctor. Copies variables right away.
+     *
+     * @param origin Variables source
+     */
+    public Snapshot(final Entry<Map<String, String>> origin) {
+        this.origin = origin;
+        this.table = Snapshot.tabled(origin);
+    }
+
+    /**
+     * Value of variable.
+     *
+     * @param name Of variable
+     * @return Value or null if absent
+     */
+    public String value(final String name) {
+        return this.table.value(name);
+    }
+
+    /**
+     * Copies variables again.
+     *
+     * @throws EntryException If failed to read variables
+     */
+    public void refresh() throws EntryException {
+        this.table = new Table(this.origin.value());
+    }
+
+    @Override
+    public Entry<String> apply(final String name) {
+        return new ESafe<>(
+            () -> this.value(name),
+            () -> String.format("Variable '%s' is not found in snapshot", name)
+        );
+    }
+
+    /**
+     * Builds first table.
+     *
+     * @param origin Variables source
+     * @return Table
+     */
+    private static Table tabled(final Entry<Map<String, String>> origin) {
+        try {
+            return new Table(origin.value());
+        } catch (final EntryException exception) {
+            throw new EntryExceptionUnchecked("Failed to copy variables", exception);
+        }
+    }
+
+    /**
+     * Copies properties to map.
+     *
+     * @param props Properties
+     * @return Map
+     */
+    private static Map<String, String> copied(final Properties props) {
+        final Map<String, String> copy = new HashMap<>();
+        for (final String name : props.stringPropertyNames()) {
+            copy.put(name, props.getProperty(name));
+        }
+        return copy;
+    }
+
+    /**
+     * Immutable open-addressed table with linear probing.
+     *
+     * @since 0.5.0
+     */
+    private static final class Table {
+        /**
+         * Keys, null for empty slot.
+         */
+        private final String[] keys;
+
+        /**
+         * Values.
+         */
+        private final String[] values;
+
+        /**
+         * Main ctor.
+         *
+         * @param vars To copy
+         */
+        Table(final Map<String, String> vars) {
+            this(Table.filled(vars));
+        }
+
+        /**
+         * Ctor from filled slots.
+         *
+         * @param slots Keys and values
+         */
+        private Table(final String[]... slots) {
+            this.keys = slots[0];
+            this.values = slots[1];
+        }
+
+        /**
+         * Value of key.
+         *
+         * @param key Of value
+         * @return Value or null if absent
+         */
+        String value(final String key) {
+            final int mask = this.keys.length - 1;
+            int slot = Table.slot(key, this.keys.length);
+            String value = null;
+            boolean found = false;
+            while (!found && this.keys[slot] != null) {
+                found = this.keys[slot].equals(key);
+                if (found) {
+                    value = this.values[slot];
+                }
+                slot = slot + 1 & mask;
+            }
+            return value;
+        }
+
+        /**
+         * Places variables into slots.
+         *
+         * @param vars To place
+         * @return Keys and values
+         */
+        private static String[][] filled(final Map<String, String> vars) {
+            final int capacity = Integer.highestOneBit(Math.max(vars.size(), 1) * 2) * 2;
+            final String[] keys = new String[capacity];
+            final String[] values = new String[capacity];
+            for (final Map.Entry<String, String> entry : vars.entrySet()) {
+                int slot = Table.slot(entry.getKey(), capacity);
+                while (keys[slot] != null) {
+                    slot = slot + 1 & capacity - 1;
+                }
+                keys[slot] = entry.getKey();
+                values[slot] = entry.getValue();
+            }
+            return new String[][] {keys, values};
+        }
+
+        /**
+         * First slot of key.
+         *
+         * @param key To place
+         * @param capacity Of table, power of two
+         * @return Slot
+         */
+        private static int slot(final String key, final int capacity) {
+            final int hash = key.hashCode();
+            return (hash ^ hash >>> 16) & capacity - 1;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys;
+
+import io.github.artemget.entrys.fake.EFakeErr;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link ERefreshing}.
+ * @since 0.5.0
+ */
+final class ERefreshingTest {
+
+    @Test
+    void servesCachedValueBeforeTtl() throws EntryException {
+        final AtomicInteger reads = new AtomicInteger();
+        final Entry<Integer> entry = new ERefreshing<>(
+            reads::incrementAndGet,
+            Duration.ofMinutes(1)
+        );
+        entry.value();
+        MatcherAssert.assertThat(
+            "Read origin before ttl expiry",
+            entry.value(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void reloadsValueInBackground() throws Exception {
+        final AtomicInteger reads = new AtomicInteger();
+        final Moved clock = new Moved();
+        final Entry<Integer> entry = new ERefreshing<>(
+            reads::incrementAndGet,
+            Duration.ofSeconds(10),
+            Duration.ofSeconds(2),
+            clock
+        );
+        entry.value();
+        clock.move(Duration.ofSeconds(9));
+        MatcherAssert.assertThat(
+            "Did not serve cached value while reloading",
+            entry.value(),
+            Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            "Did not reload value",
+            ERefreshingTest.awaited(entry, 2),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void keepsLastGoodValueAtFailedReload() throws Exception {
+        final AtomicInteger reads = new AtomicInteger();
+        final Moved clock = new Moved();
+        final ERefreshing<Integer> entry = new ERefreshing<>(
+            () -> {
+                if (reads.incrementAndGet() > 1) {
+                    throw new EntryException("Reload failed");
+                }
+                return reads.get();
+            },
+            Duration.ofSeconds(10),
+            Duration.ofSeconds(2),
+            clock
+        );
+        entry.value();
+        clock.move(Duration.ofSeconds(9));
+        entry.value();
+        final long start = System.nanoTime();
+        while (entry.error().isEmpty()
+            && System.nanoTime() - start < Duration.ofSeconds(5).toNanos()) {
+            Thread.sleep(10L);
+        }
+        MatcherAssert.assertThat(
+            "Did not keep last good value",
+            entry.value(),
+            Matchers.equalTo(1)
+        );
+        Assertions.assertTrue(entry.error().isPresent(), "Did not record error");
+    }
+
+    @Test
+    void doesNotBlockAtExpiredValue() throws Exception {
+        final AtomicInteger reads = new AtomicInteger();
+        final Moved clock = new Moved();
+        final Entry<Integer> entry = new ERefreshing<>(
+            reads::incrementAndGet,
+            Duration.ofSeconds(10),
+            Duration.ofSeconds(2),
+            clock
+        );
+        entry.value();
+        clock.move(Duration.ofSeconds(11));
+        MatcherAssert.assertThat(
+            "Blocked on reload of expired value",
+            entry.value(),
+            Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            "Did not reload expired value",
+            ERefreshingTest.awaited(entry, 2),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void retriesFailedReloadAfterMargin() throws Exception {
+        final AtomicInteger reads = new AtomicInteger();
+        final Moved clock = new Moved();
+        final ERefreshing<Integer> entry = new ERefreshing<>(
+            () -> {
+                if (reads.incrementAndGet() == 2) {
+                    throw new EntryException("Reload failed");
+                }
+                return reads.get();
+            },
+            Duration.ofSeconds(10),
+            Duration.ofSeconds(2),
+            clock
+        );
+        entry.value();
+        clock.move(Duration.ofSeconds(9));
+        entry.value();
+        final long start = System.nanoTime();
+        while (entry.error().isEmpty()
+            && System.nanoTime() - start < Duration.ofSeconds(5).toNanos()) {
+            Thread.sleep(10L);
+        }
+        clock.move(Duration.ofSeconds(1));
+        entry.value();
+        MatcherAssert.assertThat(
+            "Retried failed reload before margin passed",
+            reads.get(),
+            Matchers.equalTo(2)
+        );
+        clock.move(Duration.ofSeconds(1));
+        MatcherAssert.assertThat(
+            "Did not retry failed reload",
+            ERefreshingTest.awaited(entry, 3),
+            Matchers.equalTo(3)
+        );
+    }
+
+    @Test
+    void throwsAtMarginNotShorterThanTtl() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new ERefreshing<>(
+                () -> 1,
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(1),
+                Clock.systemUTC()
+            ),
+            "Did not throw at margin not shorter than ttl"
+        );
+    }
+
+    @Test
+    void throwsAtFirstFailure() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new ERefreshing<>(new EFakeErr<>(), Duration.ofSeconds(1)).value(),
+            "Did not throw at first failure"
+        );
+    }
+
+    /**
+     * Waits until entry returns expected value.
+     *
+     * @param entry To read
+     * @param expected Value
+     * @return Last read value
+     * @throws Exception If interrupted or entry failed
+     */
+    private static Integer awaited(final Entry<Integer> entry, final int expected)
+        throws Exception {
+        final long start = System.nanoTime();
+        Integer value = entry.value();
+        while (value != expected
+            && System.nanoTime() - start < Duration.ofSeconds(5).toNanos()) {
+            Thread.sleep(10L);
+            value = entry.value();
+        }
+        return value;
+    }
+
+    /**
+     * Clock moved manually.
+     *
+     * @since 0.5.0
+     */
+    private static final class Moved extends Clock {
+        /**
+         * Current millis.
+         */
+        private final AtomicLong now = new AtomicLong();
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(this.now.get());
+        }
+
+        /**
+         * Moves clock forward.
+         *
+         * @param duration To move by
+         */
+        void move(final Duration duration) {
+            this.now.addAndGet(duration.toMillis());
+        }
+    }
+}
@@ -104,4 +104,21 @@ final class ESafeTest {
             Matchers.equalTo("Custom NPE message")
         );
     }
+
+    @Test
+    void probesEmptyWhenNull() {
+        Assertions.assertTrue(
+            new ESafe<>(() -> null).probe().isEmpty(),
+            "Safe entry probed null value"
+        );
+    }
+
+    @Test
+    void probesValue() {
+        MatcherAssert.assertThat(
+            "Safe entry did not probe value",
+            new ESafe<>(new EFake<>("value")).probe().orElseThrow(),
+            Matchers.equalTo("value")
+        );
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys;
+
+import io.github.artemget.entrys.fake.EFakeErr;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link ESticky}.
+ * @since 0.5.0
+ */
+final class EStickyTest {
+
+    @Test
+    void readsOriginOnce() throws EntryException {
+        final AtomicInteger reads = new AtomicInteger();
+        final Entry<Integer> sticky = new ESticky<>(reads::incrementAndGet);
+        sticky.value();
+        sticky.value();
+        MatcherAssert.assertThat(
+            "Read origin more than once",
+            sticky.value(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void retriesFailureByDefault() throws EntryException {
+        final AtomicInteger reads = new AtomicInteger();
+        final Entry<Integer> sticky = new ESticky<>(
+            () -> {
+                if (reads.incrementAndGet() == 1) {
+                    throw new EntryException("First read fails");
+                }
+                return reads.get();
+            }
+        );
+        Assertions.assertThrows(
+            EntryException.class,
+            sticky::value,
+            "Did not throw at first failure"
+        );
+        MatcherAssert.assertThat(
+            "Did not retry after failure",
+            sticky.value(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void cachesFailureWhenAsked() {
+        final AtomicInteger reads = new AtomicInteger();
+        final Entry<Integer> sticky = new ESticky<>(
+            () -> {
+                reads.incrementAndGet();
+                throw new EntryException("Always fails");
+            },
+            ESticky.Failures.CACHE
+        );
+        sticky.probe();
+        sticky.probe();
+        MatcherAssert.assertThat(
+            "Read failed origin again",
+            reads.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void throwsAtNull() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new ESticky<>(() -> null).value(),
+            "Did not throw at null"
+        );
+    }
+
+    @Test
+    void probesEmptyAtFailure() {
+        Assertions.assertTrue(
+            new ESticky<>(new EFakeErr<>()).probe().isEmpty(),
+            "Probed failed entry"
+        );
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link Generations}.
+ * @since 0.5.0
+ */
+final class GenerationsTest {
+
+    @Test
+    void keepsPinnedGeneration() {
+        final Generations<String> generations = new Generations<>("url: a");
+        final Generation<String> pinned = generations.pinned();
+        generations.publish("url: b");
+        MatcherAssert.assertThat(
+            "Pinned generation changed",
+            pinned.value(),
+            Matchers.equalTo("url: a")
+        );
+    }
+
+    @Test
+    void readsPublishedGeneration() throws EntryException {
+        final Generations<String> generations = new Generations<>("url: a");
+        generations.publish("url: b");
+        MatcherAssert.assertThat(
+            "Published generation is not read",
+            generations.value(),
+            Matchers.equalTo("url: b")
+        );
+    }
+
+    @Test
+    void increasesVersion() {
+        final Generations<String> generations = new Generations<>("url: a");
+        generations.publish("url: b");
+        MatcherAssert.assertThat(
+            "Version did not increase",
+            generations.publish("url: c").version(),
+            Matchers.equalTo(3L)
+        );
+    }
+
+    @Test
+    void throwsAtNullValue() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new Generations<String>((String) null).value(),
+            "Null value is returned"
+        );
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.bind;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.fake.EFake;
+import java.io.File;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.cactoos.Scalar;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link EntrysProcessor}.
+ * @since 0.5.0
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class EntrysProcessorTest {
+
+    @Test
+    void bindsRecord() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not bind record",
+            new PoolEntry(
+                new EFake<>(
+                    "db:\n  pool:\n    url: jdbc:h2\n    size: 8\n    tls: true\n    hosts: [a, b]"
+                )
+            ).value(),
+            Matchers.equalTo(new Pool("jdbc:h2", 8, true, List.of("a", "b")))
+        );
+    }
+
+    @Test
+    void bindsInterface() throws EntryException {
+        final Cache cache = new CacheEntry(
+            new EFake<>("cache:\n  ttl: 1000\n  name: users")
+        ).value();
+        MatcherAssert.assertThat(
+            "Did not bind interface",
+            String.format("%s:%d", cache.name(), cache.ttl()),
+            Matchers.equalTo("users:1000")
+        );
+    }
+
+    @Test
+    void reportsAllMissingKeys() {
+        MatcherAssert.assertThat(
+            "Did not report missing keys",
+            Assertions.assertThrows(
+                EntryException.class,
+                () -> new PoolEntry(new EFake<>("db:\n  pool:\n    url: jdbc:h2")).value()
+            ).getMessage(),
+            Matchers.containsString("3 of 4")
+        );
+    }
+
+    @Test
+    void generatesCompilableBinder(@TempDir final Path dir) throws Exception {
+        MatcherAssert.assertThat(
+            "Generated binder did not compile",
+            EntrysProcessorTest.compiled(
+                dir,
+                "@io.github.artemget.entrys.bind.Entrys(\"app\") record App(String name) {}"
+            ),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void checksKeysAgainstConfig(@TempDir final Path dir) throws Exception {
+        final Path config = Files.writeString(dir.resolve("app.yaml"), "app:\n  name: x");
+        MatcherAssert.assertThat(
+            "Did not check keys at compile time",
+            EntrysProcessorTest.compiled(
+                dir,
+                "@io.github.artemget.entrys.bind.Entrys(\"app\") record App(String name, String port) {}",
+                String.format("-Aentrys.config=%s", config)
+            ),
+            Matchers.contains(Matchers.containsString("Key 'app.port' is absent"))
+        );
+    }
+
+    @Test
+    void skipsCheckAtMissingConfig(@TempDir final Path dir) throws Exception {
+        MatcherAssert.assertThat(
+            "Did not skip check of keys at missing config",
+            EntrysProcessorTest.compiled(
+                dir,
+                "@io.github.artemget.entrys.bind.Entrys(\"app\") record App(String name) {}",
+                String.format("-Aentrys.config=%s", dir.resolve("absent.yaml"))
+            ),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void checksKeysAgainstConfigWithBlockScalar(@TempDir final Path dir) throws Exception {
+        final Path config = Files.writeString(
+            dir.resolve("app.yaml"),
+            "app:\n  name: |\n    first\n    second\n  port: 8080"
+        );
+        MatcherAssert.assertThat(
+            "Did not check keys against config with block scalar",
+            EntrysProcessorTest.compiled(
+                dir,
+                "@io.github.artemget.entrys.bind.Entrys(\"app\") record App(String name, int port) {}",
+                String.format("-Aentrys.config=%s", config)
+            ),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void rejectsUnsupportedType(@TempDir final Path dir) throws Exception {
+        MatcherAssert.assertThat(
+            "Did not reject unsupported type",
+            EntrysProcessorTest.compiled(
+                dir,
+                "@io.github.artemget.entrys.bind.Entrys(\"app\") record App(Object name) {}"
+            ),
+            Matchers.contains(Matchers.containsString("is not supported"))
+        );
+    }
+
+    /**
+     * Compiles source of 'App' with entrys processor.
+     *
+     * @param dir To write classes to
+     * @param source Of 'App'
+     * @param options Of compiler
+     * @return Error messages
+     * @throws URISyntaxException If failed to find classpath
+     */
+    private static List<String> compiled(
+        final Path dir,
+        final String source,
+        final String... options
+    ) throws URISyntaxException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> errors = new DiagnosticCollector<>();
+        final List<String> args = new java.util.ArrayList<>(
+            List.of(
+                "-d", dir.toString(),
+                "-classpath",
+                String.join(
+                    File.pathSeparator,
+                    EntrysProcessorTest.location(Entrys.class),
+                    EntrysProcessorTest.location(Scalar.class)
+                )
+            )
+        );
+        args.addAll(List.of(options));
+        final JavaCompiler.CompilationTask task = compiler.getTask(
+            null, null, errors, args, null,
+            List.of(
+                new SimpleJavaFileObject(
+                    URI.create("string:///App.java"), JavaFileObject.Kind.SOURCE
+                ) {
+                    @Override
+                    public CharSequence getCharContent(final boolean ignore) {
+                        return source;
+                    }
+                }
+            )
+        );
+        task.setProcessors(List.of(new EntrysProcessor()));
+        task.call();
+        return errors.getDiagnostics().stream()
+            .filter(diagnostic -> diagnostic.getKind() == javax.tools.Diagnostic.Kind.ERROR)
+            .map(diagnostic -> diagnostic.getMessage(null))
+            .toList();
+    }
+
+    /**
+     * Location of class on classpath.
+     *
+     * @param type Class
+     * @return Path
+     * @throws URISyntaxException If location is invalid
+     */
+    private static String location(final Class<?> type) throws URISyntaxException {
+        return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI())
+            .toString();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.EntryException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link EBinVal}.
+ * @since 0.5.0
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class EBinValTest {
+
+    @Test
+    void readsWrittenSnapshot(@TempDir final Path dir) throws IOException, EntryException {
+        final Path bin = EBinValTest.snapshot(
+            dir, "db:\n  url: jdbc:h2\n  user: sa\nname: кекус\nlangs: [ru, en]"
+        );
+        MatcherAssert.assertThat(
+            "Did not read values from snapshot",
+            String.join(
+                "|",
+                new EBinVal("db.url", bin.toString()).value(),
+                new EBinVal("db.user", bin.toString()).value(),
+                new EBinVal("name", bin.toString()).value(),
+                new EBinVal("langs", bin.toString()).value()
+            ),
+            Matchers.equalTo("jdbc:h2|sa|кекус|ru;en")
+        );
+    }
+
+    @Test
+    void resolvesPlaceholders(@TempDir final Path dir) throws IOException, EntryException {
+        MatcherAssert.assertThat(
+            "Did not resolve placeholder kept in snapshot",
+            new EBinVal(
+                "url",
+                EBinValTest.snapshot(dir, "url: ${ENTRYS_ABSENT_HOST:localhost}:5432")
+                    .toString()
+            ).value(),
+            Matchers.equalTo("localhost:5432")
+        );
+    }
+
+    @Test
+    void throwsAtAbsentKey(@TempDir final Path dir) throws IOException, EntryException {
+        final Path bin = EBinValTest.snapshot(dir, "a: 1\nc: 3");
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EBinVal("b", bin.toString()).value(),
+            "Returned absent key"
+        );
+    }
+
+    @Test
+    void throwsAtNotSnapshot(@TempDir final Path dir) throws IOException {
+        final Path yaml = Files.writeString(dir.resolve("app.yaml"), "a: 1");
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EBinVal("a", yaml.toString()).value(),
+            "Read yaml as snapshot"
+        );
+    }
+
+    @Test
+    void throwsAtTruncatedSnapshot(@TempDir final Path dir) throws IOException, EntryException {
+        final Path bin = EBinValTest.snapshot(dir, "a: 1\nb: 2\nc: 3");
+        final Path cut = Files.write(
+            dir.resolve("cut.bin"), Arrays.copyOf(Files.readAllBytes(bin), BinTable.HEADER + 8)
+        );
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EBinVal("b", cut.toString()).value(),
+            "Read truncated snapshot"
+        );
+    }
+
+    @Test
+    void throwsAtCorruptOffset(@TempDir final Path dir) throws IOException, EntryException {
+        final Path bin = EBinValTest.snapshot(dir, "a: 1\nb: 2\nc: 3");
+        final byte[] bytes = Files.readAllBytes(bin);
+        ByteBuffer.wrap(bytes).putInt(BinTable.HEADER + BinTable.ROW, Integer.MAX_VALUE);
+        final Path corrupt = Files.write(dir.resolve("corrupt.bin"), bytes);
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EBinVal("b", corrupt.toString()).value(),
+            "Read snapshot with corrupt offset"
+        );
+    }
+
+    @Test
+    void throwsAtNegativeValueLength(@TempDir final Path dir)
+        throws IOException, EntryException {
+        final Path bin = EBinValTest.snapshot(dir, "a: 1\nb: 2\nc: 3");
+        final byte[] bytes = Files.readAllBytes(bin);
+        ByteBuffer.wrap(bytes).putInt(BinTable.HEADER + BinTable.ROW + 12, -1);
+        final Path corrupt = Files.write(dir.resolve("corrupt.bin"), bytes);
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EBinVal("b", corrupt.toString()).value(),
+            "Read snapshot with negative value length"
+        );
+    }
+
+    @Test
+    void throwsAtValueLengthBeyondArena(@TempDir final Path dir)
+        throws IOException, EntryException {
+        final Path bin = EBinValTest.snapshot(dir, "a: 1\nb: 2\nc: 3");
+        final byte[] bytes = Files.readAllBytes(bin);
+        ByteBuffer.wrap(bytes).putInt(BinTable.HEADER + BinTable.ROW + 12, Integer.MAX_VALUE);
+        final Path corrupt = Files.write(dir.resolve("corrupt.bin"), bytes);
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EBinVal("b", corrupt.toString()).value(),
+            "Read snapshot with value length beyond arena"
+        );
+    }
+
+    /**
+     * Writes snapshot of yaml.
+     *
+     * @param dir To write to
+     * @param yaml Content
+     * @return Path to snapshot
+     * @throws IOException If failed to write yaml
+     * @throws EntryException If failed to write snapshot
+     */
+    private static Path snapshot(final Path dir, final String yaml)
+        throws IOException, EntryException {
+        final Path bin = dir.resolve("out").resolve("app.bin");
+        BinWriter.main(Files.writeString(dir.resolve("app.yaml"), yaml).toString(), bin.toString());
+        return bin;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.EntryException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link EBytes}.
+ * @since 0.5.0
+ */
+final class EBytesTest {
+
+    @Test
+    void mapsContent(@TempDir final Path dir) throws IOException, EntryException {
+        final Path file = Files.writeString(dir.resolve("app.yaml"), "age: 1");
+        MatcherAssert.assertThat(
+            "Did not map file content",
+            new EBytes(file.toString()).value(),
+            Matchers.equalTo(ByteBuffer.wrap("age: 1".getBytes(StandardCharsets.UTF_8)))
+        );
+    }
+
+    @Test
+    void returnsIndependentViews(@TempDir final Path dir)
+        throws IOException, EntryException {
+        final Path file = Files.writeString(dir.resolve("app.yaml"), "age: 1");
+        new EBytes(file.toString()).value().get();
+        MatcherAssert.assertThat(
+            "Position of view is shared",
+            new EBytes(file.toString()).value().position(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void mapsAgainAtChangedFile(@TempDir final Path dir)
+        throws IOException, EntryException {
+        final Path file = Files.writeString(dir.resolve("app.yaml"), "age: 1");
+        new EBytes(file.toString()).value();
+        Files.writeString(file, "age: 22");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        MatcherAssert.assertThat(
+            "Returned stale mapping",
+            new EBytes(file.toString()).value().remaining(),
+            Matchers.equalTo(7)
+        );
+    }
+
+    @Test
+    void throwsAtMissingFile(@TempDir final Path dir) {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EBytes(dir.resolve("missing.yaml").toString()).value(),
+            "Did not throw at missing file"
+        );
+    }
+}
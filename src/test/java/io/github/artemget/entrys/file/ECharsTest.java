@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.EntryException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link EChars}.
+ * @since 0.5.0
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class ECharsTest {
+
+    @Test
+    void viewsAsciiContent(@TempDir final Path dir) throws IOException, EntryException {
+        final Path file = Files.writeString(dir.resolve("app.yaml"), "name: kekus");
+        MatcherAssert.assertThat(
+            "Did not view ascii content",
+            new EChars(file.toString()).value().subSequence(6, 11).toString(),
+            Matchers.equalTo("kekus")
+        );
+    }
+
+    @Test
+    void decodesNotAsciiContent(@TempDir final Path dir)
+        throws IOException, EntryException {
+        final Path file = Files.writeString(dir.resolve("app.yaml"), "name: кекус");
+        MatcherAssert.assertThat(
+            "Did not decode utf-8 content",
+            new EChars(file.toString()).value().toString(),
+            Matchers.equalTo("name: кекус")
+        );
+    }
+
+    @Test
+    void scansMappedYaml(@TempDir final Path dir) throws IOException, EntryException {
+        final Path file = Files.writeString(
+            dir.resolve("app.yaml"), "person:\n  name: kekus\n  age: 1"
+        );
+        MatcherAssert.assertThat(
+            "Did not scan mapped yaml",
+            new EYamlScan("person.age", new EChars(file.toString())).value(),
+            Matchers.equalTo("1")
+        );
+    }
+
+    @Test
+    void throwsAtMalformedContent(@TempDir final Path dir) throws IOException {
+        final Path file = Files.write(
+            dir.resolve("app.yaml"), new byte[] {'a', ':', ' ', (byte) 0xC3, '('}
+        );
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EChars(file.toString()).value(),
+            "Did not report malformed content"
+        );
+    }
+
+    @Test
+    void keepsViewAfterAtomicReplace(@TempDir final Path dir)
+        throws IOException, EntryException {
+        final Path file = Files.writeString(dir.resolve("app.yaml"), "name: kekus");
+        final CharSequence previous = new EChars(file.toString()).value();
+        Files.move(
+            Files.writeString(dir.resolve("next.yaml"), "name: other one"),
+            file,
+            StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING
+        );
+        MatcherAssert.assertThat(
+            "Did not keep previous view and map replaced file",
+            List.of(previous.toString(), new EChars(file.toString()).value().toString()),
+            Matchers.contains("name: kekus", "name: other one")
+        );
+    }
+
+    @Test
+    void throwsAtScanOfTruncatedFile(@TempDir final Path dir) throws IOException, EntryException {
+        final Path file = Files.writeString(
+            dir.resolve("app.yaml"), "person:\n  name: kekus\n  age: 1"
+        );
+        final CharSequence stale = new EChars(file.toString()).value();
+        Files.writeString(file, "");
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EYamlScan("person.age", () -> stale).value(),
+            "Did not turn access fault into entry exception"
+        );
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.EntryException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link EFile}.
+ * @since 0.5.0
+ */
+final class EFileTest {
+
+    @Test
+    void readsContent(@TempDir final Path dir) throws IOException, EntryException {
+        final Path file = Files.writeString(dir.resolve("app.yaml"), "age: 1");
+        MatcherAssert.assertThat(
+            "Did not read file content",
+            new EFile(file.toString()).value(),
+            Matchers.equalTo("age: 1")
+        );
+    }
+
+    @Test
+    void sharesContentOfUnchangedFile(@TempDir final Path dir)
+        throws IOException, EntryException {
+        final Path file = Files.writeString(dir.resolve("app.yaml"), "age: 1");
+        MatcherAssert.assertThat(
+            "Read unchanged file again",
+            new EFile(file.toString()).value(),
+            Matchers.sameInstance(new EFile(file.toString()).value())
+        );
+    }
+
+    @Test
+    void readsAgainAtChangedFile(@TempDir final Path dir)
+        throws IOException, EntryException {
+        final Path file = Files.writeString(dir.resolve("app.yaml"), "age: 1");
+        new EFile(file.toString()).value();
+        Files.writeString(file, "age: 22");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        MatcherAssert.assertThat(
+            "Returned stale file content",
+            new EFile(file.toString()).value(),
+            Matchers.equalTo("age: 22")
+        );
+    }
+
+    @Test
+    void readsFilesBeyondCacheLimit(@TempDir final Path dir)
+        throws IOException, EntryException {
+        final Path first = Files.writeString(dir.resolve("0.yaml"), "age: 0");
+        new EFile(first.toString()).value();
+        for (int idx = 1; idx <= 100; ++idx) {
+            new EFile(
+                Files.writeString(dir.resolve(String.format("%d.yaml", idx)), "age: 2").toString()
+            ).value();
+        }
+        MatcherAssert.assertThat(
+            "Did not read file again after cache was cleared",
+            new EFile(first.toString()).value(),
+            Matchers.equalTo("age: 0")
+        );
+    }
+
+    @Test
+    void throwsAtMissingFile(@TempDir final Path dir) {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EFile(dir.resolve("missing.yaml").toString()).value(),
+            "Did not throw at missing file"
+        );
+    }
+}
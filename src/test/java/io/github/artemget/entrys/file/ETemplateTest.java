@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.fake.EFake;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link ETemplate}.
+ * @since 0.5.0
+ */
+final class ETemplateTest {
+
+    @Test
+    void keepsTextWithoutPlaceholders() throws EntryException {
+        MatcherAssert.assertThat(
+            "Changed text without placeholders",
+            new ETemplate(new EFake<>("plain {text}")).value(),
+            Matchers.equalTo("plain {text}")
+        );
+    }
+
+    @Test
+    void resolvesPlaceholdersWithText() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not resolve placeholders around text",
+            new ETemplate(
+                new EFake<>("jdbc:${HOST:localhost}:${PORT:5432}/db"),
+                name -> new EFake<>(Map.of("HOST", "db").get(name))
+            ).value(),
+            Matchers.equalTo("jdbc:db:5432/db")
+        );
+    }
+
+    @Test
+    void keepsDelimitersAndBracesInDefault() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not keep default with delimiters",
+            new ETemplate(
+                new EFake<>("${JSON:{\"url\":\"https://host:80\"}}"),
+                name -> new EFake<>(null)
+            ).value(),
+            Matchers.equalTo("{\"url\":\"https://host:80\"}")
+        );
+    }
+
+    @Test
+    void readsEachPlaceholderOnce() throws EntryException {
+        final AtomicInteger reads = new AtomicInteger();
+        new ETemplate(
+            new EFake<>("${A}-${B:2}"),
+            name -> () -> {
+                reads.incrementAndGet();
+                return name;
+            }
+        ).value();
+        MatcherAssert.assertThat(
+            "Read placeholder more than once",
+            reads.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void throwsAtMissingValueWithoutDefault() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new ETemplate(
+                new EFake<>("${A:1}${B}"),
+                name -> new EFake<>(null)
+            ).value(),
+            "Did not throw at missing value"
+        );
+    }
+
+    @Test
+    void keepsUnclosedPlaceholder() throws EntryException {
+        MatcherAssert.assertThat(
+            "Changed unclosed placeholder",
+            new ETemplate(new EFake<>("price ${"), name -> new EFake<>(null)).value(),
+            Matchers.equalTo("price ${")
+        );
+    }
+}
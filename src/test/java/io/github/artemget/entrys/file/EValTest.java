@@ -223,4 +223,49 @@ final class EValTest {
             "Not parsed default value"
         );
     }
+
+    @Test
+    void throwsAtMappingAttribute() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EVal("person", new EFake<>("person:\n  age: 1")).value(),
+            "Didnt throw at mapping value"
+        );
+    }
+
+    @Test
+    void parsesSeveralPlaceholdersWithText() throws Exception {
+        Assertions.assertEquals(
+            "jdbc:db.local:5432/app",
+            new EnvironmentVariables("my_host", "db.local").execute(
+                () -> new EVal(
+                    "url",
+                    new EFake<>("url: jdbc:${my_host:localhost}:${my_port:5432}/app")
+                ).value()
+            ),
+            "Not parsed several placeholders"
+        );
+    }
+
+    @Test
+    void probesEmptyAtMissingEnv() {
+        Assertions.assertTrue(
+            new EVal("age", new EFake<>("age: ${my_absent_env}")).probe().isEmpty(),
+            "Probed missing env"
+        );
+    }
+
+    @Test
+    void parsesWithChosenEngine() throws EntryException {
+        Assertions.assertEquals(
+            "kekus",
+            new EVal(
+                "person.name",
+                new EYamlIndex(
+                    new EFake<>("person:\n  name: kekus"), EYamlIndex.Engine.EO_YAML
+                )
+            ).value(),
+            "Not parsed with chosen engine"
+        );
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.fake.EFake;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link EVals}.
+ * @since 0.5.0
+ */
+final class EValsTest {
+
+    @Test
+    void resolvesAllKeys() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not resolve all keys",
+            new EVals(
+                List.of("db.url", "db.user"),
+                new EFake<>("db:\n  url: jdbc:${ENTRYS_ABSENT_HOST:localhost}\n  user: sa")
+            ).value(),
+            Matchers.allOf(
+                Matchers.hasEntry("db.url", "jdbc:localhost"),
+                Matchers.hasEntry("db.user", "sa")
+            )
+        );
+    }
+
+    @Test
+    void reportsAllMissingKeys() {
+        MatcherAssert.assertThat(
+            "Did not report all missing keys",
+            Assertions.assertThrows(
+                EntryException.class,
+                () -> new EVals(
+                    List.of("db.url", "db.user", "db.pass"),
+                    new EFake<>("db:\n  url: ${ENTRYS_ABSENT_HOST}")
+                ).value()
+            ).getMessage(),
+            Matchers.allOf(
+                Matchers.containsString("3 of 3"),
+                Matchers.containsString("'db.url'"),
+                Matchers.containsString("'db.user'"),
+                Matchers.containsString("'db.pass'")
+            )
+        );
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.Generation;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link EWatched}.
+ * @since 0.5.0
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class EWatchedTest {
+
+    @Test
+    void publishesChangedFile(@TempDir final Path dir) throws Exception {
+        final Path file = Files.writeString(dir.resolve("app.yaml"), "age: 1");
+        try (EWatched watched = new EWatched(file.toString(), Duration.ofMillis(20))) {
+            final EVal age = new EVal("age", watched);
+            age.value();
+            Files.writeString(file, "age: 2");
+            MatcherAssert.assertThat(
+                "Did not publish changed file",
+                EWatchedTest.awaited(age::value, "2"),
+                Matchers.equalTo("2")
+            );
+        }
+    }
+
+    @Test
+    void keepsPinnedGeneration(@TempDir final Path dir) throws Exception {
+        final Path file = Files.writeString(dir.resolve("app.yaml"), "age: 1");
+        try (EWatched watched = new EWatched(file.toString(), Duration.ofMillis(20))) {
+            final Generation<String> pinned = watched.pinned();
+            Files.writeString(file, "age: 2");
+            EWatchedTest.awaited(() -> watched.pinned().version(), 2L);
+            MatcherAssert.assertThat(
+                "Pinned generation changed",
+                new EVal("age", pinned).value(),
+                Matchers.equalTo("1")
+            );
+        }
+    }
+
+    @Test
+    void keepsLastContentAtFailedReload(@TempDir final Path dir) throws Exception {
+        final Path file = Files.writeString(dir.resolve("app.yaml"), "age: 1");
+        try (EWatched watched = new EWatched(
+            file.toString(),
+            Duration.ofMillis(20),
+            content -> {
+                if (content.contains("broken")) {
+                    throw new EntryException("Broken");
+                }
+                return content;
+            }
+        )) {
+            watched.value();
+            Files.writeString(file, "broken");
+            EWatchedTest.awaited(() -> watched.error().isPresent(), true);
+            MatcherAssert.assertThat(
+                "Did not keep last content",
+                watched.value(),
+                Matchers.equalTo("age: 1")
+            );
+        }
+    }
+
+    @Test
+    void recoversAfterMalformedYaml(@TempDir final Path dir) throws Exception {
+        final Path file = Files.writeString(dir.resolve("app.yaml"), "age: 1");
+        try (EWatched watched = new EWatched(file.toString(), Duration.ofMillis(20))) {
+            final EVal age = new EVal("age", watched);
+            age.value();
+            Files.writeString(file, "age: [1, 2");
+            EWatchedTest.awaited(() -> watched.error().isPresent(), true);
+            MatcherAssert.assertThat(
+                "Did not keep last good content at malformed yaml",
+                age.value(),
+                Matchers.equalTo("1")
+            );
+            Files.writeString(file, "age: 3");
+            MatcherAssert.assertThat(
+                "Did not publish valid file after malformed one",
+                EWatchedTest.awaited(age::value, "3"),
+                Matchers.equalTo("3")
+            );
+        }
+    }
+
+    @Test
+    void recordsRuntimeFailureOfParser(@TempDir final Path dir) throws Exception {
+        final Path file = Files.writeString(dir.resolve("app.yaml"), "age: 1");
+        try (EWatched watched = new EWatched(
+            file.toString(),
+            Duration.ofMillis(20),
+            content -> {
+                if (content.contains("broken")) {
+                    throw new IllegalStateException("Broken");
+                }
+                return content;
+            }
+        )) {
+            watched.value();
+            Files.writeString(file, "broken");
+            MatcherAssert.assertThat(
+                "Did not record runtime failure of parser",
+                EWatchedTest.awaited(() -> watched.error().isPresent(), true),
+                Matchers.is(true)
+            );
+            Files.writeString(file, "age: 2");
+            MatcherAssert.assertThat(
+                "Stopped watching after runtime failure of parser",
+                EWatchedTest.awaited(watched::value, "age: 2"),
+                Matchers.equalTo("age: 2")
+            );
+        }
+    }
+
+    @Test
+    void ignoresOtherFilesOfDirectory(@TempDir final Path dir) throws Exception {
+        final Path file = Files.writeString(dir.resolve("app.yaml"), "age: 1");
+        final AtomicInteger parses = new AtomicInteger();
+        try (EWatched watched = new EWatched(
+            file.toString(),
+            Duration.ofMillis(20),
+            content -> parses.incrementAndGet()
+        )) {
+            watched.value();
+            Files.writeString(dir.resolve("other.yaml"), "age: 2");
+            Thread.sleep(300L);
+            Files.writeString(file, "age: 3");
+            EWatchedTest.awaited(watched::value, "age: 3");
+            MatcherAssert.assertThat(
+                "Reparsed file at change of other file",
+                parses.get(),
+                Matchers.equalTo(2)
+            );
+        }
+    }
+
+    @Test
+    void watchesAfterFailedFirstLoad(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("config").resolve("app.yaml");
+        try (EWatched watched = new EWatched(file.toString(), Duration.ofMillis(20))) {
+            Assertions.assertThrows(
+                EntryException.class,
+                watched::value,
+                "Did not throw at missing directory"
+            );
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, "age: 1");
+            watched.value();
+            Files.writeString(file, "age: 2");
+            MatcherAssert.assertThat(
+                "Did not watch file after failed first load",
+                EWatchedTest.awaited(watched::value, "age: 2"),
+                Matchers.equalTo("age: 2")
+            );
+        }
+    }
+
+    @Test
+    void throwsAtMissingFile(@TempDir final Path dir) {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EWatched(dir.resolve("missing.yaml").toString()).value(),
+            "Did not throw at missing file"
+        );
+    }
+
+    /**
+     * Waits until value becomes expected one.
+     *
+     * @param value Supplier
+     * @param expected Value
+     * @param <T> Value type
+     * @return Last value
+     * @throws Exception If failed
+     */
+    private static <T> T awaited(
+        final Callable<T> value,
+        final T expected
+    ) throws Exception {
+        T current = value.call();
+        for (int attempt = 0; attempt < 500 && !expected.equals(current); ++attempt) {
+            Thread.sleep(20L);
+            current = value.call();
+        }
+        return current;
+    }
+}
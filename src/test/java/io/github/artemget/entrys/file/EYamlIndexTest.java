@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.fake.EFake;
+import io.github.artemget.entrys.fake.EFakeErr;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link EYamlIndex}.
+ * @since 0.5.0
+ */
+final class EYamlIndexTest {
+
+    @Test
+    void indexesNestedKeys() throws EntryException {
+        MatcherAssert.assertThat(
+            "Nested key is not indexed by dotted path",
+            new EYamlIndex(
+                new EFake<>("person:\n  name: \"kekus\"\n  languages: [ ru,en ]")
+            ).value(),
+            Matchers.allOf(
+                Matchers.hasEntry("person.name", "kekus"),
+                Matchers.hasEntry("person.languages", "ru;en")
+            )
+        );
+    }
+
+    @Test
+    void skipsNullValues() throws EntryException {
+        MatcherAssert.assertThat(
+            "Null value is indexed",
+            new EYamlIndex(new EFake<>("age: null\nname: kekus")).value(),
+            Matchers.not(Matchers.hasKey("age"))
+        );
+    }
+
+    @Test
+    void skipsSequencesOfMappings() throws EntryException {
+        MatcherAssert.assertThat(
+            "Sequence of mappings broke index",
+            new EYamlIndex(
+                new EFake<>("hosts:\n  - name: a\n    port: 1\nname: kekus")
+            ).value(),
+            Matchers.allOf(
+                Matchers.not(Matchers.hasKey("hosts")),
+                Matchers.hasEntry("name", "kekus")
+            )
+        );
+    }
+
+    @Test
+    void sharesIndexOfSameContent() throws EntryException {
+        MatcherAssert.assertThat(
+            "Indexed same content twice",
+            new EYamlIndex(new EFake<>("shared: true")).value(),
+            Matchers.sameInstance(new EYamlIndex(new EFake<>("shared: true")).value())
+        );
+    }
+
+    @Test
+    void fallsBackToEoYaml() throws EntryException {
+        MatcherAssert.assertThat(
+            "Unsupported construct is not read by eo-yaml",
+            new EYamlIndex(new EFake<>("text: |\n  x\n  y\nname: kekus")).value(),
+            Matchers.allOf(
+                Matchers.hasEntry("text", "x\ny\n"),
+                Matchers.hasEntry("name", "kekus")
+            )
+        );
+    }
+
+    @Test
+    void throwsAtUnsupportedByBuiltInEngine() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EYamlIndex(
+                new EFake<>("text: |\n  x"), EYamlIndex.Engine.LITE
+            ).value(),
+            "Built-in engine read block scalar"
+        );
+    }
+
+    @Test
+    void throwsAtMalformedFlowSequence() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EYamlIndex(
+                new EFake<>("a: [1, 2"), EYamlIndex.Engine.EO_YAML
+            ).value(),
+            "Did not wrap eo-yaml failure at malformed flow sequence"
+        );
+    }
+
+    @Test
+    void throwsAtMalformedYamlByDefault() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EVal("a", new EFake<>("a: [1, 2\nb: c")).value(),
+            "Did not throw entry exception at malformed yaml"
+        );
+    }
+
+    @Test
+    void throwsAtEmptyContent() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EYamlIndex(new EFakeErr<>()).value(),
+            "Did not throw at empty content"
+        );
+    }
+}
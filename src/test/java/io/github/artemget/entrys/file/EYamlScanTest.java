@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.fake.EFake;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link EYamlScan}.
+ * @since 0.5.0
+ */
+@SuppressWarnings({"PMD.AvoidDuplicateLiterals", "PMD.TooManyMethods"})
+final class EYamlScanTest {
+
+    @Test
+    void scansNestedKey() throws EntryException {
+        MatcherAssert.assertThat(
+            "Nested key is not scanned",
+            new EYamlScan(
+                "db.pool.size",
+                new EFake<>(
+                    "name: app\ndb:\n  url: x\n  pool:\n    size: 10 # max\n  user: sa"
+                )
+            ).value(),
+            Matchers.equalTo("10")
+        );
+    }
+
+    @Test
+    void skipsSiblingSubtrees() throws EntryException {
+        MatcherAssert.assertThat(
+            "Key of sibling subtree is scanned",
+            new EYamlScan(
+                "name",
+                new EFake<>("person:\n  name: nested\n  tags:\n    - a\nname: root")
+            ).value(),
+            Matchers.equalTo("root")
+        );
+    }
+
+    @Test
+    void scansDottedKeys() throws EntryException {
+        MatcherAssert.assertThat(
+            "Key with dots is not scanned",
+            new EYamlScan(
+                "spring.db.url",
+                new EFake<>("spring:\n  \"db.url\": 'jdbc:h2:mem'")
+            ).value(),
+            Matchers.equalTo("jdbc:h2:mem")
+        );
+    }
+
+    @Test
+    void joinsBlockSequences() throws EntryException {
+        MatcherAssert.assertThat(
+            "Block sequence is not joined",
+            new EYamlScan(
+                "a.langs",
+                new EFake<>("a:\n  langs:\n  - ru\n  - \"en\"\n  b: c")
+            ).value(),
+            Matchers.equalTo("ru;en")
+        );
+    }
+
+    @Test
+    void joinsFlowSequences() throws EntryException {
+        MatcherAssert.assertThat(
+            "Flow sequence is not joined",
+            new EYamlScan("a.b", new EFake<>("a:\n  b: [ 1, \"x,y\" ]")).value(),
+            Matchers.equalTo("1;x,y")
+        );
+    }
+
+    @Test
+    void stopsAtFoundKey() throws EntryException {
+        MatcherAssert.assertThat(
+            "Scan did not stop at found key",
+            new EYamlScan(
+                "first",
+                new EFake<>("first: 1\nbroken: \"not closed\n  at all")
+            ).value(),
+            Matchers.equalTo("1")
+        );
+    }
+
+    @Test
+    void fallsBackAtBlockScalars() throws EntryException {
+        MatcherAssert.assertThat(
+            "Block scalar is not read",
+            new EYamlScan("text", new EFake<>("text: |\n  x\n  y")).value(),
+            Matchers.equalTo("x\ny\n")
+        );
+    }
+
+    @Test
+    void fallsBackAtFlowMappings() throws EntryException {
+        MatcherAssert.assertThat(
+            "Flow mapping is not read",
+            new EYamlScan("a.x", new EFake<>("a: {x: 1}")).value(),
+            Matchers.equalTo("1")
+        );
+    }
+
+    @Test
+    void agreesWithIndexAtDuplicatedEmptyKey() throws EntryException {
+        final String yaml = "x: \nx: \\x: .a x:  ";
+        MatcherAssert.assertThat(
+            "Scan disagreed with index",
+            new EYamlScan("x", new EFake<>(yaml)).value(),
+            Matchers.equalTo(new EYamlIndex(new EFake<>(yaml)).value().get("x"))
+        );
+    }
+
+    @Test
+    void throwsAtNullValue() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EYamlScan("age", new EFake<>("age: null\nname: kekus")).value(),
+            "Null value is returned"
+        );
+    }
+
+    @Test
+    void throwsAtMappingValue() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EYamlScan("person", new EFake<>("person:\n  name: kekus")).value(),
+            "Mapping is returned as value"
+        );
+    }
+
+    @Test
+    void throwsAtAbsentKey() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EYamlScan("person.age", new EFake<>("person: kekus\nage: 1")).value(),
+            "Absent key is returned"
+        );
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link YamlKey}.
+ * @since 0.5.0
+ */
+final class YamlKeyTest {
+
+    @Test
+    void splitsSegments() {
+        final YamlKey key = new YamlKey("person.name.first");
+        MatcherAssert.assertThat(
+            "Key is not split by dots",
+            new String[] {key.segment(0), key.segment(1), key.segment(2)},
+            Matchers.arrayContaining("person", "name", "first")
+        );
+    }
+
+    @Test
+    void keepsSingleSegment() {
+        MatcherAssert.assertThat(
+            "Key without dots is not single segment",
+            new YamlKey("age").size(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void matchesRegion() {
+        Assertions.assertTrue(
+            new YamlKey("person.name").same(1, "  name: kekus", 2, 6),
+            "Did not match equal region"
+        );
+    }
+
+    @Test
+    void doesNotMatchDifferentRegion() {
+        Assertions.assertFalse(
+            new YamlKey("person.name").same(1, "  nane: kekus", 2, 6),
+            "Matched different region"
+        );
+    }
+
+    @Test
+    void printsDotted() {
+        MatcherAssert.assertThat(
+            "Key is not printed as dotted",
+            new YamlKey("person.name").toString(),
+            Matchers.equalTo("person.name")
+        );
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.file;
+
+import io.github.artemget.entrys.EntryException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link YamlLite}.
+ * @since 0.5.0
+ */
+final class YamlLiteTest {
+
+    @Test
+    void readsSameIndexAsEoYaml() throws EntryException {
+        final String yaml = String.join(
+            "\n",
+            "---",
+            "# settings",
+            "name: app # inline",
+            "hash: a#b",
+            "url: http://host:80/x",
+            "empty: ''",
+            "quoted: \"a # b\"",
+            "single: 'it''s'",
+            "absent: null",
+            "tilde: ~",
+            "db:",
+            "  pool:",
+            "",
+            "    size: 10",
+            "  hosts: [ a, \"b,c\", 'd' ]",
+            "  none: []",
+            "  nested: [a, [b]]",
+            "langs:",
+            "- ru",
+            "- \"en\" # english",
+            "ports:",
+            "  - 80",
+            "  - 443",
+            "servers:",
+            "  - name: a",
+            "    port: 1",
+            "last: value  "
+        );
+        MatcherAssert.assertThat(
+            "Built-in parser differs from eo-yaml",
+            new YamlLite(yaml).value(),
+            Matchers.equalTo(new YamlTree(yaml).value())
+        );
+    }
+
+    @Test
+    void fallsBackAtKeysReadDifferentlyByEoYaml() throws EntryException {
+        for (final String yaml : new String[] {
+            ": a", "\"\": 1", "\rx: -", "x: .\r'|", ",a: 1", ":a: 1", "%a: 1",
+            "|a: 1", ">a: 1", "\"a\" : 1", "a\"b: 1", "db:\n  \"user.name\": sa",
+        }) {
+            Assertions.assertThrows(
+                EntryException.class,
+                () -> new YamlLite(yaml).value(),
+                String.format("Built-in parser read unsupported yaml '%s'", yaml)
+            );
+            MatcherAssert.assertThat(
+                String.format("Auto engine differs from eo-yaml at '%s'", yaml),
+                EYamlIndex.Engine.AUTO.apply(yaml),
+                Matchers.equalTo(new YamlTree(yaml).value())
+            );
+        }
+    }
+
+    @Test
+    void readsCrlfLineBreaks() throws EntryException {
+        final String yaml = "a: 1\r\nb:\r\n  c: 2\r\n";
+        MatcherAssert.assertThat(
+            "Built-in parser differs from eo-yaml at crlf line breaks",
+            new YamlLite(yaml).value(),
+            Matchers.equalTo(new YamlTree(yaml).value())
+        );
+    }
+
+    @Test
+    void throwsAtBlockScalar() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new YamlLite("text: |\n  x\n  y").value(),
+            "Block scalar is read"
+        );
+    }
+
+    @Test
+    void throwsAtMultilineScalar() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new YamlLite("text: first\n  second").value(),
+            "Multiline scalar is read"
+        );
+    }
+
+    @Test
+    void throwsAtFlowMapping() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new YamlLite("a: {x: 1}").value(),
+            "Flow mapping is read"
+        );
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.EntryException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link EJsonDecimal}.
+ *
+ * @since 0.5.0
+ */
+final class EJsonDecimalTest {
+
+    @Test
+    void readsDecimalWithoutPrecisionLoss() throws EntryException {
+        MatcherAssert.assertThat(
+            "Lost precision of decimal",
+            new EJsonDecimal(
+                new EJsonParsed(() -> "{\"price\": 0.10000000000000000001}"), "price"
+            ).value(),
+            Matchers.equalTo(new BigDecimal("0.10000000000000000001"))
+        );
+    }
+
+    @Test
+    void readsScannedDecimal() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not read scanned decimal",
+            new EJsonDecimal(
+                new EJsonScan("/price", () -> new StringReader("{\"price\": 1.25}"))
+            ).value(),
+            Matchers.equalTo(new BigDecimal("1.25"))
+        );
+    }
+}
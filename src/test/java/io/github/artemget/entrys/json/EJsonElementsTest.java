@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.operation.ECollected;
+import java.util.stream.Collectors;
+import javax.json.Json;
+import javax.json.JsonNumber;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link EJsonElements}.
+ *
+ * @since 0.5.0
+ */
+final class EJsonElementsTest {
+
+    @Test
+    void collectsElements() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not collect json array elements",
+            new ECollected<>(
+                new EJsonElements(
+                    () -> Json.createObjectBuilder()
+                        .add("ports", Json.createArrayBuilder().add(80).add(443))
+                        .build(),
+                    "ports"
+                ),
+                Collectors.mapping(
+                    value -> ((JsonNumber) value).intValue(), Collectors.toList()
+                )
+            ).value(),
+            Matchers.contains(80, 443)
+        );
+    }
+
+    @Test
+    void throwsAtAbsentArray() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EJsonElements(() -> Json.createObjectBuilder().build(), "ports").value(),
+            "Did not throw at absent array"
+        );
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.EntryException;
+import javax.json.Json;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link EJsonInt}.
+ *
+ * @since 0.5.0
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class EJsonIntTest {
+
+    @Test
+    void readsInt() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not read int",
+            new EJsonInt(Json.createObjectBuilder().add("port", 8080).build(), "port")
+                .intValue(),
+            Matchers.equalTo(8080)
+        );
+    }
+
+    @Test
+    void readsIntByPath() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not read int by path",
+            new EJsonInt(
+                new EJsonPath(
+                    Json.createObjectBuilder()
+                        .add("db", Json.createObjectBuilder().add("port", 5432))
+                        .build(),
+                    "db.port"
+                )
+            ).intValue(),
+            Matchers.equalTo(5432)
+        );
+    }
+
+    @Test
+    void throwsAtFraction() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EJsonInt(Json.createObjectBuilder().add("port", 1.5).build(), "port")
+                .intValue(),
+            "Did not throw at fraction"
+        );
+    }
+
+    @Test
+    void throwsAtString() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EJsonInt(Json.createObjectBuilder().add("port", "80").build(), "port")
+                .intValue(),
+            "Did not throw at string"
+        );
+    }
+
+    @Test
+    void throwsAtAbsentAttribute() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EJsonInt(Json.createObjectBuilder().build(), "port").intValue(),
+            "Did not throw at absent attribute"
+        );
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.EntryException;
+import java.math.BigDecimal;
+import javax.json.Json;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link EJsonLong}.
+ *
+ * @since 0.5.0
+ */
+final class EJsonLongTest {
+
+    @Test
+    void readsLong() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not read long",
+            new EJsonLong(
+                Json.createObjectBuilder().add("limit", 5_000_000_000L).build(), "limit"
+            ).longValue(),
+            Matchers.equalTo(5_000_000_000L)
+        );
+    }
+
+    @Test
+    void throwsAtOverflow() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EJsonLong(
+                Json.createObjectBuilder()
+                    .add("limit", new BigDecimal("1e30"))
+                    .build(),
+                "limit"
+            ).longValue(),
+            "Did not throw at overflow"
+        );
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.fake.EFake;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link EJsonParsed}.
+ *
+ * @since 0.5.0
+ */
+final class EJsonParsedTest {
+
+    @Test
+    void parsesObject() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not parse json object",
+            new EJsonStr(new EJsonParsed(new EFake<>("{\"name\": \"kekus\"}")), "name")
+                .value(),
+            Matchers.equalTo("kekus")
+        );
+    }
+
+    @Test
+    void sharesParsedObject() throws EntryException {
+        MatcherAssert.assertThat(
+            "Parsed same content twice",
+            new EJsonParsed(new EFake<>("{\"shared\": true}")).value(),
+            Matchers.sameInstance(new EJsonParsed(new EFake<>("{\"shared\": true}")).value())
+        );
+    }
+
+    @Test
+    void throwsAtMalformedJson() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EJsonParsed(new EFake<>("{\"name\": ")).value(),
+            "Parsed malformed json"
+        );
+    }
+
+    @Test
+    void throwsAtArray() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EJsonParsed(new EFake<>("[1, 2]")).value(),
+            "Parsed array as object"
+        );
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.fake.EFake;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link EJsonPath}.
+ *
+ * @since 0.5.0
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class EJsonPathTest {
+    /**
+     * Json to lookup.
+     */
+    private static final JsonObject JSON = Json.createObjectBuilder()
+        .add(
+            "servers",
+            Json.createArrayBuilder()
+                .add(Json.createObjectBuilder().add("host", "alpha"))
+                .add(Json.createObjectBuilder().add("host", "beta"))
+        )
+        .add("a/b", Json.createObjectBuilder().add("m~n", "escaped"))
+        .add("matrix", Json.createArrayBuilder().add(Json.createArrayBuilder().add(1).add(2)))
+        .add("0", "member")
+        .build();
+
+    @Test
+    void readsByPointer() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not read by pointer",
+            new EJsonStr(new EJsonPath(EJsonPathTest.JSON, "/servers/1/host")).value(),
+            Matchers.equalTo("beta")
+        );
+    }
+
+    @Test
+    void readsByEscapedPointer() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not unescape pointer",
+            new EJsonStr(new EJsonPath(EJsonPathTest.JSON, "/a~1b/m~0n")).value(),
+            Matchers.equalTo("escaped")
+        );
+    }
+
+    @Test
+    void readsByDottedPath() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not read by dotted path",
+            new EJsonStr(new EJsonPath(EJsonPathTest.JSON, "servers[0].host")).value(),
+            Matchers.equalTo("alpha")
+        );
+    }
+
+    @Test
+    void readsNestedIndices() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not read nested indices",
+            new EJsonPath(EJsonPathTest.JSON, "matrix[0][1]").value().toString(),
+            Matchers.equalTo("2")
+        );
+    }
+
+    @Test
+    void readsNumericMember() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not read numeric member of object",
+            new EJsonStr(new EJsonPath(EJsonPathTest.JSON, "/0")).value(),
+            Matchers.equalTo("member")
+        );
+    }
+
+    @Test
+    void readsWholeDocument() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not read whole document by empty pointer",
+            new EJsonPath(new EFake<>(EJsonPathTest.JSON), "").value(),
+            Matchers.<JsonValue>equalTo(EJsonPathTest.JSON)
+        );
+    }
+
+    @Test
+    void throwsAtIndexOutOfBounds() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EJsonPath(EJsonPathTest.JSON, "/servers/2/host").value(),
+            "Did not throw at index out of bounds"
+        );
+    }
+
+    @Test
+    void throwsAtLeadingZeroIndex() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EJsonPath(EJsonPathTest.JSON, "/servers/01/host").value(),
+            "Did not throw at index with leading zero"
+        );
+    }
+
+    @Test
+    void throwsAtMissingMember() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EJsonPath(EJsonPathTest.JSON, "servers[0].port").value(),
+            "Did not throw at missing member"
+        );
+    }
+
+    @Test
+    void throwsAtWrongType() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EJsonStr(new EJsonPath(EJsonPathTest.JSON, "servers[0]")).value(),
+            "Did not throw at wrong value type"
+        );
+    }
+}
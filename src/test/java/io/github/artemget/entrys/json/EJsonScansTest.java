@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.json;
+
+import io.github.artemget.entrys.EntryException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import javax.json.Json;
+import javax.json.JsonValue;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link EJsonScans}.
+ *
+ * @since 0.5.0
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class EJsonScansTest {
+    /**
+     * Json to scan.
+     */
+    private static final String JSON = String.join(
+        "",
+        "{\"skipped\": {\"deep\": [1, {\"x\": [2, 3]}]},",
+        "\"routes\": [{\"host\": \"alpha\"}, {\"host\": \"beta\", \"port\": 80}],",
+        "\"name\": \"entrys\", \"empty\": null}"
+    );
+
+    @Test
+    void extractsSeveralPaths() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not extract paths in single pass",
+            new EJsonScans(
+                List.of("name", "/routes/1/port", "routes[0].host", "empty"),
+                () -> new StringReader(EJsonScansTest.JSON)
+            ).value(),
+            Matchers.equalTo(
+                Map.of(
+                    "name", Json.createValue("entrys"),
+                    "/routes/1/port", Json.createValue(80),
+                    "routes[0].host", Json.createValue("alpha"),
+                    "empty", JsonValue.NULL
+                )
+            )
+        );
+    }
+
+    @Test
+    void extractsNestedPathsOfOneValue() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not extract path nested into other path",
+            new EJsonScans(
+                List.of("routes[1]", "routes[1].host"),
+                () -> new StringReader(EJsonScansTest.JSON)
+            ).value().get("routes[1].host"),
+            Matchers.equalTo(Json.createValue("beta"))
+        );
+    }
+
+    @Test
+    void stopsAtFoundPaths() throws EntryException {
+        MatcherAssert.assertThat(
+            "Read json after all paths were found",
+            new EJsonScans(
+                List.of("a.b"),
+                () -> new StringReader("{\"a\": {\"b\": 1, \"c\": ")
+            ).value().get("a.b"),
+            Matchers.equalTo(Json.createValue(1))
+        );
+    }
+
+    @Test
+    void readsFile(@TempDir final Path dir) throws IOException, EntryException {
+        final Path file = Files.writeString(dir.resolve("routes.json"), EJsonScansTest.JSON);
+        MatcherAssert.assertThat(
+            "Did not scan json file",
+            new EJsonStr(new EJsonScan("routes[1].host", file.toString())).value(),
+            Matchers.equalTo("beta")
+        );
+    }
+
+    @Test
+    void reportsAllMissingPaths() {
+        MatcherAssert.assertThat(
+            "Did not report all missing paths",
+            Assertions.assertThrows(
+                EntryException.class,
+                () -> new EJsonScans(
+                    List.of("name", "routes[2]", "skipped.deep[1].y"),
+                    () -> new StringReader(EJsonScansTest.JSON)
+                ).value()
+            ).getMessage(),
+            Matchers.equalTo(
+                "Failed to find 2 of 3 json paths: 'routes[2]', 'skipped.deep[1].y'"
+            )
+        );
+    }
+
+    @Test
+    void throwsAtMalformedJson() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EJsonScans(
+                List.of("name"),
+                () -> new StringReader("{\"routes\": [1, }")
+            ).value(),
+            "Did not throw at malformed json"
+        );
+    }
+}
@@ -53,4 +53,13 @@ final class EIntTest {
             "Property int parsed long value"
         );
     }
+
+    @Test
+    void returnsPrimitiveFromChars() throws EntryException {
+        MatcherAssert.assertThat(
+            "Int entry could not parse chars",
+            new EInt(() -> new StringBuilder("-42")).intValue(),
+            Matchers.equalTo(-42)
+        );
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.operation;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.fake.EFake;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link ECollected}.
+ * @since 0.5.0
+ */
+final class ECollectedTest {
+
+    @Test
+    void collectsTypedElements() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not collect typed elements",
+            new ECollected<>(
+                new EPieces(new EFake<>("80;443;8080")),
+                Collectors.mapping(Integer::valueOf, Collectors.toSet())
+            ).value(),
+            Matchers.containsInAnyOrder(80, 443, 8080)
+        );
+    }
+
+    @Test
+    void collectsLargeSequenceInParallel() throws EntryException {
+        final String joined = IntStream.range(0, 20_000)
+            .mapToObj(Integer::toString)
+            .collect(Collectors.joining(";"));
+        MatcherAssert.assertThat(
+            "Did not collect large sequence in order",
+            new ECollected<>(
+                new EPieces(new EFake<>(joined)),
+                Collectors.joining(";"),
+                1
+            ).value(),
+            Matchers.equalTo(joined)
+        );
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.operation;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.fake.EFake;
+import io.github.artemget.entrys.fake.EFakeErr;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link EFirst}.
+ * @since 0.5.0
+ */
+final class EFirstTest {
+
+    @Test
+    void returnsFirstPresent() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not return first present candidate",
+            new EFirst<>(
+                new EFakeErr<>(),
+                new EFake<>(null),
+                new EFake<>("123"),
+                new EFake<>("321")
+            ).value(),
+            Matchers.equalTo("123")
+        );
+    }
+
+    @Test
+    void readsCandidateOnce() throws EntryException {
+        final AtomicInteger reads = new AtomicInteger();
+        new EFirst<>(
+            () -> {
+                reads.incrementAndGet();
+                return "123";
+            }
+        ).value();
+        MatcherAssert.assertThat(
+            "Read candidate more than once",
+            reads.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void skipsCandidatesAfterPresent() throws EntryException {
+        final AtomicInteger reads = new AtomicInteger();
+        new EFirst<>(
+            new EFake<>("123"),
+            () -> {
+                reads.incrementAndGet();
+                return "321";
+            }
+        ).value();
+        MatcherAssert.assertThat(
+            "Read candidate after present one",
+            reads.get(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void throwsWhenNonePresent() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EFirst<>(new EFakeErr<>(), new EFake<>(null)).value(),
+            "Did not throw when none of candidates is present"
+        );
+    }
+}
@@ -26,6 +26,9 @@ package io.github.artemget.entrys.operation;
 
 import io.github.artemget.entrys.EntryException;
 import io.github.artemget.entrys.fake.EFake;
+import io.github.artemget.entrys.fake.EFakeErr;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -33,6 +36,7 @@ import org.junit.jupiter.api.Test;
  * Test cases for {@link EFork}.
  * @since 0.4.0
  */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
 final class EForkTest {
 
     @Test
@@ -60,4 +64,29 @@ final class EForkTest {
             "Returned origin"
         );
     }
+
+    @Test
+    void probesSpare() {
+        MatcherAssert.assertThat(
+            "Probed origin",
+            new EFork<>(
+                () -> false,
+                new EFake<>("123"),
+                new EFake<>("321")
+            ).probe().orElseThrow(),
+            Matchers.equalTo("321")
+        );
+    }
+
+    @Test
+    void probesEmptyAtFailedCondition() {
+        Assertions.assertTrue(
+            new EFork<>(
+                new EFakeErr<>(),
+                new EFake<>("123"),
+                new EFake<>("321")
+            ).probe().isEmpty(),
+            "Probed value at failed condition"
+        );
+    }
 }
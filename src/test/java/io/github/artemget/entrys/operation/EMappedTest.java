@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.operation;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.fake.EFake;
+import io.github.artemget.entrys.fake.EFakeErr;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link EMapped}.
+ * @since 0.5.0
+ */
+final class EMappedTest {
+
+    @Test
+    void mapsValue() throws EntryException {
+        Assertions.assertEquals(
+            5,
+            new EMapped<>(new EFake<>("kekus"), String::length).value(),
+            "Did not map value"
+        );
+    }
+
+    @Test
+    void throwsAtNullMappedValue() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EMapped<>(new EFake<>("kekus"), value -> null).value(),
+            "Returned null mapped value"
+        );
+    }
+
+    @Test
+    void throwsAtOriginError() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EMapped<>(new EFakeErr<String>(), String::length).value(),
+            "Did not throw at origin error"
+        );
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.operation;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.fake.EFake;
+import io.github.artemget.entrys.fake.EFakeErr;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link EParsed}.
+ * @since 0.5.0
+ */
+final class EParsedTest {
+
+    @Test
+    void parsesOnceForSameContent() throws EntryException {
+        final AtomicInteger parses = new AtomicInteger();
+        final Map<String, Integer> cache = new ConcurrentHashMap<>();
+        for (int attempt = 0; attempt < 3; ++attempt) {
+            new EParsed<>(
+                new EFake<>("123"),
+                content -> {
+                    parses.incrementAndGet();
+                    return Integer.valueOf(content);
+                },
+                cache
+            ).value();
+        }
+        MatcherAssert.assertThat(
+            "Parsed same content more than once",
+            parses.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void parsesAgainAtChangedContent() throws EntryException {
+        final Map<String, Integer> cache = new ConcurrentHashMap<>();
+        new EParsed<>(new EFake<>("123"), Integer::valueOf, cache).value();
+        MatcherAssert.assertThat(
+            "Returned value parsed from stale content",
+            new EParsed<>(new EFake<>("321"), Integer::valueOf, cache).value(),
+            Matchers.equalTo(321)
+        );
+    }
+
+    @Test
+    void clearsCacheAtLimit() throws EntryException {
+        final Map<String, Integer> cache = new ConcurrentHashMap<>();
+        new EParsed<>(new EFake<>("1"), Integer::valueOf, cache, 2).value();
+        new EParsed<>(new EFake<>("2"), Integer::valueOf, cache, 2).value();
+        new EParsed<>(new EFake<>("3"), Integer::valueOf, cache, 2).value();
+        MatcherAssert.assertThat(
+            "Cache exceeded it's limit",
+            cache.keySet(),
+            Matchers.contains("3")
+        );
+    }
+
+    @Test
+    void throwsAtEmptyContent() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EParsed<>(
+                new EFakeErr<String>(),
+                Integer::valueOf,
+                new ConcurrentHashMap<>()
+            ).value(),
+            "Did not throw at empty content"
+        );
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.operation;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.fake.EFake;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link EPieces}.
+ * @since 0.5.0
+ */
+final class EPiecesTest {
+
+    @Test
+    void splitsByDefaultDelimiter() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not split by default delimiter",
+            StreamSupport.stream(new EPieces(new EFake<>("ru;en;")).value(), false)
+                .collect(Collectors.toList()),
+            Matchers.contains("ru", "en")
+        );
+    }
+
+    @Test
+    void reportsSize() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not report size of pieces",
+            new EPieces(new EFake<>("a, b, c"), ", ").value().getExactSizeIfKnown(),
+            Matchers.equalTo(3L)
+        );
+    }
+
+    @Test
+    void throwsAtEmptyDelimiter() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EPieces(new EFake<>("a"), "").value(),
+            "Did not throw at empty delimiter"
+        );
+    }
+}
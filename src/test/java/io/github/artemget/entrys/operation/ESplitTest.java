@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.operation;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.fake.EFake;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link ESplit}.
+ * @since 0.5.0
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class ESplitTest {
+
+    @Test
+    void splitsByDefaultDelimiter() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not split by ;",
+            new ESplit(new EFake<>("ru;en;de")).value(),
+            Matchers.contains("ru", "en", "de")
+        );
+    }
+
+    @Test
+    void splitsByRegexLikeDelimiter() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not split by literal delimiter",
+            new ESplit(new EFake<>("a.b|.c"), "|.").value(),
+            Matchers.contains("a.b", "c")
+        );
+    }
+
+    @Test
+    void dropsTrailingEmptyPieces() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not follow String#split rules",
+            new ESplit(new EFake<>(";a;;b;;")).value(),
+            Matchers.contains("", "a", "", "b")
+        );
+    }
+
+    @Test
+    void keepsValueWithoutDelimiter() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not keep empty value",
+            new ESplit(new EFake<>("")).value(),
+            Matchers.contains("")
+        );
+    }
+
+    @Test
+    void splitsByEmptyDelimiter() throws EntryException {
+        MatcherAssert.assertThat(
+            "Did not split by empty delimiter",
+            new ESplit(new EFake<>("abc"), "").value(),
+            Matchers.contains("a", "b", "c")
+        );
+    }
+
+    @Test
+    void reusesResultOfSameValue() throws EntryException {
+        final ESplit split = new ESplit(new EFake<>("a;b"));
+        MatcherAssert.assertThat(
+            "Split the same value again",
+            split.value(),
+            Matchers.sameInstance(split.value())
+        );
+    }
+}
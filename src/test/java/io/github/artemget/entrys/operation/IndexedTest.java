@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.operation;
+
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link Indexed}.
+ * @since 0.5.0
+ */
+final class IndexedTest {
+
+    @Test
+    void splitsInHalves() {
+        final Spliterator<Integer> suffix = new Indexed<>(Integer::valueOf, 5);
+        final Spliterator<Integer> prefix = suffix.trySplit();
+        MatcherAssert.assertThat(
+            "Did not split range in halves",
+            new long[] {prefix.estimateSize(), suffix.estimateSize()},
+            Matchers.equalTo(new long[] {2L, 3L})
+        );
+    }
+
+    @Test
+    void keepsOrderInParallel() {
+        MatcherAssert.assertThat(
+            "Parallel stream lost order of elements",
+            StreamSupport.stream(new Indexed<>(Integer::valueOf, 100_000), true)
+                .collect(Collectors.toList()),
+            Matchers.equalTo(IntStream.range(0, 100_000).boxed().collect(Collectors.toList()))
+        );
+    }
+
+    @Test
+    void doesNotSplitSingleElement() {
+        MatcherAssert.assertThat(
+            "Split single element",
+            new Indexed<>(Integer::valueOf, 1).trySplit(),
+            Matchers.nullValue()
+        );
+    }
+
+    @Test
+    void reportsSized() {
+        MatcherAssert.assertThat(
+            "Is not sized",
+            new Indexed<>(Integer::valueOf, 3)
+                .hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void doesNotPromiseNonNullElements() {
+        MatcherAssert.assertThat(
+            "Promised non null elements of arbitrary function",
+            new Indexed<>(idx -> null, 3).hasCharacteristics(Spliterator.NONNULL),
+            Matchers.is(false)
+        );
+    }
+}
@@ -45,4 +45,17 @@ final class EEnvTest {
             Matchers.equalTo("123")
         );
     }
+
+    @Test
+    void probesEmptyWhenAbsent() throws Exception {
+        MatcherAssert.assertThat(
+            "Environment entry probed absent value",
+            new EnvironmentVariables()
+                .remove("my_absent_env")
+                .execute(
+                    () -> new EEnv("my_absent_env").probe().isPresent()
+                ),
+            Matchers.equalTo(false)
+        );
+    }
 }
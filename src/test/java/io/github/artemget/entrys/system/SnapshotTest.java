@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.entrys.system;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.fake.EFake;
+import io.github.artemget.entrys.file.EVal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link Snapshot}.
+ * @since 0.5.0
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class SnapshotTest {
+
+    @Test
+    void findsAllVariables() {
+        final Map<String, String> vars = new HashMap<>();
+        for (int index = 0; index < 1000; ++index) {
+            vars.put(String.format("VAR_%d", index), String.valueOf(index));
+        }
+        final Snapshot snapshot = new Snapshot(() -> vars);
+        final Map<String, String> found = new HashMap<>();
+        for (final String name : vars.keySet()) {
+            found.put(name, snapshot.value(name));
+        }
+        MatcherAssert.assertThat(
+            "Did not find variable",
+            found,
+            Matchers.equalTo(vars)
+        );
+    }
+
+    @Test
+    void returnsNullForAbsent() {
+        Assertions.assertNull(
+            new Snapshot(() -> Map.of("A", "1")).value("B"),
+            "Found absent variable"
+        );
+    }
+
+    @Test
+    void throwsAtAbsentEntry() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new Snapshot(() -> Map.of("A", "1")).apply("B").value(),
+            "Snapshot entry did not throw at absent variable"
+        );
+    }
+
+    @Test
+    void keepsCopyUntilRefresh() throws EntryException {
+        final Map<String, String> vars = new ConcurrentHashMap<>(Map.of("A", "1"));
+        final Snapshot snapshot = new Snapshot(() -> vars);
+        vars.put("A", "2");
+        MatcherAssert.assertThat(
+            "Did not keep copy",
+            snapshot.value("A"),
+            Matchers.equalTo("1")
+        );
+        snapshot.refresh();
+        MatcherAssert.assertThat(
+            "Did not refresh copy",
+            snapshot.value("A"),
+            Matchers.equalTo("2")
+        );
+    }
+
+    @Test
+    void backsEnvEntry() throws EntryException {
+        MatcherAssert.assertThat(
+            "Env entry did not read snapshot",
+            new EEnv("A", new Snapshot(() -> Map.of("A", "1"))).value(),
+            Matchers.equalTo("1")
+        );
+    }
+
+    @Test
+    void backsPropEntry() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EProp("A", new Snapshot(Map::of)).value(),
+            "Prop entry did not throw at absent variable"
+        );
+    }
+
+    @Test
+    void backsValPlaceholders() throws EntryException {
+        MatcherAssert.assertThat(
+            "Yaml entry did not resolve placeholder from snapshot",
+            new EVal(
+                "port",
+                new EFake<>("port: ${PORT:80}"),
+                new Snapshot(() -> Map.of("PORT", "8080"))
+            ).value(),
+            Matchers.equalTo("8080")
+        );
+    }
+}